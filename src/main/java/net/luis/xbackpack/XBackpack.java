@@ -21,8 +21,7 @@ package net.luis.xbackpack;
 import net.luis.xbackpack.commands.XBCommandArgumentTypes;
 import net.luis.xbackpack.core.components.XBDataComponents;
 import net.luis.xbackpack.network.XBNetworkHandler;
-import net.luis.xbackpack.network.packet.OpenBackpackPacket;
-import net.luis.xbackpack.network.packet.UpdateBackpackPacket;
+import net.luis.xbackpack.network.packet.*;
 import net.luis.xbackpack.network.packet.extension.*;
 import net.luis.xbackpack.network.packet.modifier.*;
 import net.luis.xbackpack.network.packet.tool.direct.*;
@@ -90,16 +89,20 @@ public class XBackpack {
 			registrar.playToServer(NextToolDownPacket.TYPE, NextToolDownPacket.STREAM_CODEC, NextToolDownPacket::handle);
 			registrar.playToServer(UpdateExtensionPacket.TYPE, UpdateExtensionPacket.STREAM_CODEC, UpdateExtensionPacket::handle);
 			registrar.playToServer(UpdateSearchTermPacket.TYPE, UpdateSearchTermPacket.STREAM_CODEC, UpdateSearchTermPacket::handle);
+			registrar.playToServer(ValidateSlotMappingPacket.TYPE, ValidateSlotMappingPacket.STREAM_CODEC, ValidateSlotMappingPacket::handle);
 			registrar.playToServer(ResetItemModifierPacket.TYPE, ResetItemModifierPacket.STREAM_CODEC, ResetItemModifierPacket::handle);
+			registrar.playToServer(RequestBackpackSyncPacket.TYPE, RequestBackpackSyncPacket.STREAM_CODEC, RequestBackpackSyncPacket::handle);
 
 			// Client-bound packets
 			registrar.playToClient(UpdateBackpackPacket.TYPE, UpdateBackpackPacket.STREAM_CODEC, UpdateBackpackPacket::handle);
+			registrar.playToClient(UpdateBackpackChangesPacket.TYPE, UpdateBackpackChangesPacket.STREAM_CODEC, UpdateBackpackChangesPacket::handle);
 			registrar.playToClient(UpdateFurnacePacket.TYPE, UpdateFurnacePacket.STREAM_CODEC, UpdateFurnacePacket::handle);
 			registrar.playToClient(UpdateAnvilPacket.TYPE, UpdateAnvilPacket.STREAM_CODEC, UpdateAnvilPacket::handle);
 			registrar.playToClient(UpdateEnchantmentTablePacket.TYPE, UpdateEnchantmentTablePacket.STREAM_CODEC, UpdateEnchantmentTablePacket::handle);
 			registrar.playToClient(UpdateStonecutterPacket.TYPE, UpdateStonecutterPacket.STREAM_CODEC, UpdateStonecutterPacket::handle);
 			registrar.playToClient(UpdateBrewingStandPacket.TYPE, UpdateBrewingStandPacket.STREAM_CODEC, UpdateBrewingStandPacket::handle);
 			registrar.playToClient(UpdateItemModifiersPacket.TYPE, UpdateItemModifiersPacket.STREAM_CODEC, UpdateItemModifiersPacket::handle);
+			registrar.playToClient(UpdateSlotMappingPacket.TYPE, UpdateSlotMappingPacket.STREAM_CODEC, UpdateSlotMappingPacket::handle);
 		}
 	}
 }
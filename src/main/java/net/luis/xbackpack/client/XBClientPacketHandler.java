@@ -20,6 +20,10 @@ package net.luis.xbackpack.client;
 
 import net.luis.xbackpack.client.gui.screens.BackpackScreen;
 import net.luis.xbackpack.client.gui.screens.extension.*;
+import net.luis.xbackpack.network.XBNetworkHandler;
+import net.luis.xbackpack.network.packet.RequestBackpackSyncPacket;
+import net.luis.xbackpack.world.backpack.BackpackHandler;
+import net.luis.xbackpack.world.backpack.sync.SlotChange;
 import net.luis.xbackpack.world.capability.BackpackProvider;
 import net.luis.xbackpack.world.extension.BackpackExtension;
 import net.luis.xbackpack.world.extension.BackpackExtensions;
@@ -33,6 +37,7 @@ import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -43,9 +48,18 @@ import java.util.Objects;
 
 public class XBClientPacketHandler {
 	
-	public static void updateBackpack(@NotNull CompoundTag tag) {
+	public static void updateBackpack(int version, @NotNull CompoundTag tag) {
 		LocalPlayer player = Objects.requireNonNull(Minecraft.getInstance().player);
-		BackpackProvider.get(player).deserialize(player.registryAccess(), tag);
+		BackpackHandler backpack = BackpackProvider.get(player);
+		backpack.deserialize(player.registryAccess(), tag);
+		backpack.setSyncVersion(version);
+	}
+	
+	public static void updateBackpackChanges(int version, @NotNull CompoundTag state, @NotNull List<SlotChange> changes) {
+		LocalPlayer player = Objects.requireNonNull(Minecraft.getInstance().player);
+		if (!BackpackProvider.get(player).applyChanges(version, state, changes)) {
+			XBNetworkHandler.INSTANCE.sendToServer(new RequestBackpackSyncPacket());
+		}
 	}
 	
 	private static @Nullable AbstractExtensionScreen getExtensionScreen(@NotNull BackpackExtension extension) {
@@ -56,9 +70,9 @@ public class XBClientPacketHandler {
 		return null;
 	}
 	
-	public static void updateFurnaceExtension(int cookingProgress, int fuelProgress) {
+	public static void updateFurnaceExtension(long gameTime, int cookingProgress, int cookingTime, int fuelTime, int maxFuel) {
 		if (getExtensionScreen(BackpackExtensions.FURNACE.get()) instanceof FurnaceExtensionScreen furnaceExtension) {
-			furnaceExtension.update(cookingProgress, fuelProgress);
+			furnaceExtension.update(gameTime, cookingProgress, cookingTime, fuelTime, maxFuel);
 		}
 	}
 	
@@ -80,9 +94,9 @@ public class XBClientPacketHandler {
 		}
 	}
 	
-	public static void updateBrewingStandExtension(int fuel, int brewTime) {
+	public static void updateBrewingStandExtension(int fuel, long brewStart, int brewDuration) {
 		if (getExtensionScreen(BackpackExtensions.BREWING_STAND.get()) instanceof BrewingStandExtensionScreen brewingStandScreen) {
-			brewingStandScreen.update(fuel, brewTime);
+			brewingStandScreen.update(fuel, brewStart, brewDuration);
 		}
 	}
 	
@@ -90,7 +104,16 @@ public class XBClientPacketHandler {
 		Minecraft minecraft = Minecraft.getInstance();
 		if (minecraft.screen instanceof BackpackScreen screen) {
 			screen.getMenu().updateFilter(filter, UpdateType.SET_NO_UPDATE, null);
-			screen.getMenu().updateSorter(sorter, UpdateType.SET_NO_UPDATE, null);
+			if (!screen.hasPendingSearchTerm()) {
+				screen.getMenu().updateSorter(sorter, UpdateType.SET_NO_UPDATE, null);
+			}
+		}
+	}
+	
+	public static void updateBackpackSlotMapping(boolean reply, int mappingHash, int @NotNull [] mapping) {
+		Minecraft minecraft = Minecraft.getInstance();
+		if (minecraft.screen instanceof BackpackScreen screen) {
+			screen.getMenu().updateMapping(reply, mappingHash, mapping, screen.hasPendingSearchTerm());
 		}
 	}
 	
@@ -19,9 +19,11 @@
 package net.luis.xbackpack.client.gui.screens;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import net.luis.xbackpack.client.gui.screens.extension.AbstractExtensionScreen;
 import net.luis.xbackpack.network.XBNetworkHandler;
 import net.luis.xbackpack.network.packet.extension.UpdateExtensionPacket;
+import net.luis.xbackpack.world.backpack.config.BackpackExtensionConfig;
 import net.luis.xbackpack.world.capability.BackpackProvider;
 import net.luis.xbackpack.world.extension.BackpackExtension;
 import net.luis.xbackpack.world.extension.BackpackExtensionState;
@@ -50,6 +52,9 @@ public abstract class AbstractExtensionContainerScreen<T extends AbstractExtensi
 	private final List<BackpackExtension> extensions = initExtensions();
 	private final List<AbstractExtensionScreen> extensionScreens = Lists.newArrayList();
 	private BackpackExtension extension = NO.get();
+	private final Set<BackpackExtension> unlockedExtensions = Sets.newHashSet();
+	private @Nullable BackpackExtensionConfig extensionConfig;
+	private int extensionConfigVersion = -1;
 
 	private static List<BackpackExtension> initExtensions() {
 		List<BackpackExtension> list = new ArrayList<>();
@@ -109,18 +114,21 @@ public abstract class AbstractExtensionContainerScreen<T extends AbstractExtensi
 			AbstractExtensionScreen extensionScreen = this.getExtensionScreen(extension);
 			if (extensionScreen != null && this.canUseExtension(extension)) {
 				extensionScreen.renderTooltip(graphics, mouseX, mouseY, this.extension == extension && this.extension != NO.get(), this.isExtensionRenderable(extension), (itemStack) -> {
-					List<Component> tooltipLines = itemStack.getTooltipLines(net.minecraft.world.item.Item.TooltipContext.EMPTY, this.minecraft.player, this.minecraft.options.advancedItemTooltips ? net.minecraft.world.item.TooltipFlag.ADVANCED : net.minecraft.world.item.TooltipFlag.NORMAL);
-					List<net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent> tooltipComponents = tooltipLines.stream()
-						.map(component -> net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent.create(component.getVisualOrderText()))
-						.toList();
-					graphics.renderTooltip(this.font, tooltipComponents, mouseX, mouseY, net.minecraft.client.gui.screens.inventory.tooltip.DefaultTooltipPositioner.INSTANCE, null, itemStack);
+					graphics.renderTooltip(this.font, this.getTooltipComponents(itemStack), mouseX, mouseY, net.minecraft.client.gui.screens.inventory.tooltip.DefaultTooltipPositioner.INSTANCE, null, itemStack);
 				});
 			}
 		}
 	}
 	
 	protected boolean canUseExtension(@NotNull BackpackExtension extension) {
-		return BackpackProvider.get(Objects.requireNonNull(Objects.requireNonNull(this.minecraft).player)).getConfig().getExtensionConfig().getWithState(BackpackExtensionState.UNLOCKED).contains(extension);
+		BackpackExtensionConfig config = BackpackProvider.get(Objects.requireNonNull(Objects.requireNonNull(this.minecraft).player)).getConfig().getExtensionConfig();
+		if (this.extensionConfig != config || this.extensionConfigVersion != config.getVersion()) {
+			this.extensionConfig = config;
+			this.extensionConfigVersion = config.getVersion();
+			this.unlockedExtensions.clear();
+			this.unlockedExtensions.addAll(config.getWithState(BackpackExtensionState.UNLOCKED));
+		}
+		return this.unlockedExtensions.contains(extension);
 	}
 	
 	protected boolean isExtensionRenderable(BackpackExtension extension) {
@@ -18,6 +18,7 @@
 
 package net.luis.xbackpack.client.gui.screens;
 
+import com.google.common.collect.Lists;
 import net.luis.xbackpack.world.inventory.slot.MoveableSlot;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.GuiGraphics;
@@ -33,6 +34,7 @@ import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -55,6 +57,12 @@ public abstract class AbstractScrollableContainerScreen<T extends AbstractContai
 	private static final ResourceLocation SLOT_HIGHLIGHT_BACK_SPRITE = ResourceLocation.withDefaultNamespace("container/slot_highlight_back");
 	private static final ResourceLocation SLOT_HIGHLIGHT_FRONT_SPRITE = ResourceLocation.withDefaultNamespace("container/slot_highlight_front");
 
+	private final List<Slot> fixedSlots = Lists.newArrayList();
+	private final List<Slot> visibleSlots = Lists.newArrayList();
+	private final List<Slot> batchedSlots = Lists.newArrayList();
+	private final TooltipComponentCache tooltipCache = new TooltipComponentCache();
+	private Slot[] moveableSlots = new Slot[0];
+	private int indexedSlotCount = -1;
 	private boolean scrolling = false;
 	protected int scrollOffset = 0;
 
@@ -137,13 +145,91 @@ public abstract class AbstractScrollableContainerScreen<T extends AbstractContai
 		return SlotRenderType.DEFAULT;
 	}
 	
+	protected int getViewportTop() {
+		return Integer.MIN_VALUE;
+	}
+	
+	protected int getViewportBottom() {
+		return Integer.MAX_VALUE;
+	}
+	
+	private void indexSlots() {
+		if (this.indexedSlotCount != this.menu.slots.size()) {
+			this.fixedSlots.clear();
+			List<Slot> moveableSlots = Lists.newArrayList();
+			for (Slot slot : this.menu.slots) {
+				if (slot instanceof MoveableSlot) {
+					moveableSlots.add(slot);
+				} else {
+					this.fixedSlots.add(slot);
+				}
+			}
+			moveableSlots.sort(Comparator.comparingInt((Slot slot) -> slot.y).thenComparingInt(slot -> slot.index));
+			this.moveableSlots = moveableSlots.toArray(Slot[]::new);
+			this.indexedSlotCount = this.menu.slots.size();
+		}
+	}
+	
+	protected @NotNull List<Slot> getVisibleSlots() {
+		this.indexSlots();
+		this.visibleSlots.clear();
+		int top = this.getViewportTop();
+		int bottom = this.getViewportBottom();
+		int low = 0;
+		int high = this.moveableSlots.length;
+		while (high > low) {
+			int middle = (low + high) >>> 1;
+			if (top > ((MoveableSlot) this.moveableSlots[middle]).getY(this.scrollOffset)) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		for (int i = low; i < this.moveableSlots.length; i++) {
+			Slot slot = this.moveableSlots[i];
+			if (((MoveableSlot) slot).getY(this.scrollOffset) > bottom) {
+				break;
+			}
+			this.visibleSlots.add(slot);
+		}
+		this.visibleSlots.addAll(this.fixedSlots);
+		return this.visibleSlots;
+	}
+	
 	@Override
 	protected void renderSlots(@NotNull GuiGraphics graphics) {
-		for (Slot slot : this.menu.slots) {
-			if (slot.isActive() && this.getSlotRenderType(slot) != SlotRenderType.SKIP) {
+		this.batchedSlots.clear();
+		for (Slot slot : this.getVisibleSlots()) {
+			if (!slot.isActive() || this.getSlotRenderType(slot) == SlotRenderType.SKIP) {
+				continue;
+			}
+			if (this.canBatchRender(slot)) {
+				if (slot.hasItem()) {
+					this.batchedSlots.add(slot);
+				}
+			} else {
 				this.renderSlot(graphics, slot);
 			}
 		}
+		this.renderBatchedSlots(graphics);
+	}
+	
+	private boolean canBatchRender(@NotNull Slot slot) {
+		if (!(slot instanceof MoveableSlot) || slot.isFake() || slot == this.clickedSlot) {
+			return false;
+		} else if (!slot.hasItem() && slot.getNoItemIcon() != null) {
+			return false;
+		}
+		return !this.isQuickCrafting || !this.quickCraftSlots.contains(slot);
+	}
+	
+	private void renderBatchedSlots(@NotNull GuiGraphics graphics) {
+		for (Slot slot : this.batchedSlots) {
+			graphics.renderItem(slot.getItem(), slot.x, ((MoveableSlot) slot).getY(this.scrollOffset), slot.x + slot.y * this.imageWidth);
+		}
+		for (Slot slot : this.batchedSlots) {
+			graphics.renderItemDecorations(this.font, slot.getItem(), slot.x, ((MoveableSlot) slot).getY(this.scrollOffset));
+		}
 	}
 	
 	protected void renderSlotHighlightBack(@NotNull GuiGraphics graphics) {
@@ -220,18 +306,23 @@ public abstract class AbstractScrollableContainerScreen<T extends AbstractContai
 	protected void renderTooltip(@NotNull GuiGraphics graphics, int mouseX, int mouseY) {
 		if (this.menu.getCarried().isEmpty() && this.hoveredSlot != null && this.hoveredSlot.hasItem() && this.getSlotRenderType(this.hoveredSlot) == SlotRenderType.DEFAULT) {
 			ItemStack itemStack = this.hoveredSlot.getItem();
-			List<Component> tooltipLines = itemStack.getTooltipLines(net.minecraft.world.item.Item.TooltipContext.EMPTY, this.minecraft.player, this.minecraft.options.advancedItemTooltips ? net.minecraft.world.item.TooltipFlag.ADVANCED : net.minecraft.world.item.TooltipFlag.NORMAL);
-			List<net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent> tooltipComponents = tooltipLines.stream()
-				.map(component -> net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent.create(component.getVisualOrderText()))
-				.toList();
-			graphics.renderTooltip(this.font, tooltipComponents, mouseX, mouseY, net.minecraft.client.gui.screens.inventory.tooltip.DefaultTooltipPositioner.INSTANCE, null, itemStack);
+			graphics.renderTooltip(this.font, this.getTooltipComponents(itemStack), mouseX, mouseY, net.minecraft.client.gui.screens.inventory.tooltip.DefaultTooltipPositioner.INSTANCE, null, itemStack);
 		}
 	}
+	
+	protected @NotNull List<net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent> getTooltipComponents(@NotNull ItemStack stack) {
+		return this.tooltipCache.getComponents(stack, this.minecraft.player, this.minecraft.options.advancedItemTooltips);
+	}
+	
+	@Override
+	public void removed() {
+		this.tooltipCache.clear();
+		super.removed();
+	}
 
 	@Override
 	protected @Nullable Slot getHoveredSlot(double mouseX, double mouseY) {
-		for (int i = 0; i < this.menu.slots.size(); ++i) {
-			Slot slot = this.menu.slots.get(i);
+		for (Slot slot : this.getVisibleSlots()) {
 			if (this.isHovering(slot, mouseX, mouseY) && this.getSlotRenderType(slot) == SlotRenderType.DEFAULT) {
 				return slot;
 			}
@@ -24,6 +24,7 @@ import net.luis.xbackpack.client.gui.screens.extension.*;
 import net.luis.xbackpack.network.XBNetworkHandler;
 import net.luis.xbackpack.network.packet.modifier.ResetItemModifierPacket;
 import net.luis.xbackpack.network.packet.modifier.UpdateSearchTermPacket;
+import net.luis.xbackpack.network.packet.modifier.ValidateSlotMappingPacket;
 import net.luis.xbackpack.world.capability.BackpackProvider;
 import net.luis.xbackpack.world.inventory.BackpackMenu;
 import net.luis.xbackpack.world.inventory.extension.slot.ExtensionMenuSlot;
@@ -32,12 +33,14 @@ import net.luis.xbackpack.world.inventory.modifier.filter.ItemFilters;
 import net.luis.xbackpack.world.inventory.modifier.sorter.ItemSorters;
 import net.luis.xbackpack.world.inventory.slot.BackpackSlot;
 import net.luis.xbackpack.world.inventory.slot.MoveableSlot;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.ClickType;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.TooltipFlag;
 import org.jetbrains.annotations.NotNull;
@@ -58,11 +61,14 @@ public class BackpackScreen extends AbstractModifiableContainerScreen<BackpackMe
 	private static final ResourceLocation SORTER_SPRITE = ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "backpack/sorter");
 	private static final ResourceLocation MERGER_SPRITE = ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "backpack/merger");
 	private static final ResourceLocation SCROLLER_SPRITE = ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "backpack/scroller");
+	private static final long SEARCH_TERM_DELAY = 300;
 	
 	private @Nullable RenderData searchData;
 	private @Nullable RenderData filterData;
 	private @Nullable RenderData sorterData;
 	private @Nullable RenderData mergerData;
+	private @Nullable String pendingSearchTerm;
+	private long searchTermChangeTime;
 	
 	public BackpackScreen(BackpackMenu menu, Inventory inventory, Component titleComponent) {
 		super(menu, inventory, titleComponent);
@@ -89,6 +95,40 @@ public class BackpackScreen extends AbstractModifiableContainerScreen<BackpackMe
 		super.resize(minecraft, width, height);
 	}
 	
+	@Override
+	protected void containerTick() {
+		super.containerTick();
+		if (this.pendingSearchTerm != null && Util.getMillis() - this.searchTermChangeTime >= SEARCH_TERM_DELAY) {
+			this.sendSearchTerm();
+		}
+	}
+	
+	@Override
+	protected void slotClicked(@Nullable Slot slot, int slotId, int mouseButton, @NotNull ClickType clickType) {
+		this.sendSearchTerm();
+		if (slotId >= 0 && this.menu.getHandler().getSlots() > slotId) {
+			int mappingHash = this.menu.getHandler().getMappingHash();
+			if (mappingHash != this.menu.getConfirmedMappingHash()) {
+				XBNetworkHandler.INSTANCE.sendToServer(new ValidateSlotMappingPacket(mappingHash));
+			}
+		}
+		super.slotClicked(slot, slotId, mouseButton, clickType);
+	}
+	
+	public boolean hasPendingSearchTerm() {
+		return this.pendingSearchTerm != null;
+	}
+	
+	@Override
+	protected int getViewportTop() {
+		return 18;
+	}
+	
+	@Override
+	protected int getViewportBottom() {
+		return 108;
+	}
+	
 	@Override
 	protected @NotNull SlotRenderType getSlotRenderType(@NotNull Slot slot) {
 		if (slot instanceof ExtensionMenuSlot extensionSlot) {
@@ -198,7 +238,16 @@ public class BackpackScreen extends AbstractModifiableContainerScreen<BackpackMe
 	
 	@Override
 	protected void updateSearchTerm(@NotNull String searchBoxValue) {
-		XBNetworkHandler.INSTANCE.sendToServer(new UpdateSearchTermPacket(searchBoxValue));
+		this.menu.setSearchTerm(searchBoxValue);
+		this.pendingSearchTerm = searchBoxValue;
+		this.searchTermChangeTime = Util.getMillis();
+	}
+	
+	private void sendSearchTerm() {
+		if (this.pendingSearchTerm != null) {
+			XBNetworkHandler.INSTANCE.sendToServer(new UpdateSearchTermPacket(this.pendingSearchTerm, this.menu.snapshotMapping()));
+			this.pendingSearchTerm = null;
+		}
 	}
 	
 	@Override
@@ -0,0 +1,82 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.client.gui.screens;
+
+import net.minecraft.Util;
+import net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.TooltipFlag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class TooltipComponentCache {
+	
+	private static final int MAX_CACHE_SIZE = 32;
+	private static final long MAX_ENTRY_AGE = 500;
+	
+	private final Map<Key, Entry> cache = new LinkedHashMap<>(MAX_CACHE_SIZE, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.@NotNull Entry<Key, TooltipComponentCache.Entry> eldest) {
+			return this.size() > MAX_CACHE_SIZE;
+		}
+	};
+	
+	public @NotNull List<ClientTooltipComponent> getComponents(@NotNull ItemStack stack, @Nullable Player player, boolean advanced) {
+		Key key = new Key(stack, ItemStack.hashItemAndComponents(stack), stack.getCount(), advanced);
+		long time = Util.getMillis();
+		Entry entry = this.cache.get(key);
+		if (entry == null || time - entry.time() > MAX_ENTRY_AGE) {
+			List<Component> tooltipLines = stack.getTooltipLines(Item.TooltipContext.EMPTY, player, advanced ? TooltipFlag.ADVANCED : TooltipFlag.NORMAL);
+			List<ClientTooltipComponent> components = tooltipLines.stream().map(component -> ClientTooltipComponent.create(component.getVisualOrderText())).toList();
+			entry = new Entry(components, time);
+			this.cache.put(key, entry);
+		}
+		return entry.components();
+	}
+	
+	public void clear() {
+		this.cache.clear();
+	}
+	
+	private record Key(@NotNull ItemStack stack, int hash, int count, boolean advanced) {
+		
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Key key && this.stack == key.stack && this.hash == key.hash && this.count == key.count && this.advanced == key.advanced;
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hash(System.identityHashCode(this.stack), this.hash, this.count, this.advanced);
+		}
+	}
+	
+	private record Entry(@NotNull List<ClientTooltipComponent> components, long time) {}
+}
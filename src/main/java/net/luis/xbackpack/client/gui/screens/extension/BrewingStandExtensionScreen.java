@@ -45,7 +45,8 @@ public class BrewingStandExtensionScreen extends AbstractExtensionScreen {
 		29, 24, 20, 16, 11, 6, 0
 	};
 	private int fuel;
-	private int brewTime;
+	private long brewStart;
+	private int brewDuration;
 	
 	public BrewingStandExtensionScreen(@NotNull AbstractExtensionContainerScreen<?> screen, @NotNull List<BackpackExtension> extensions) {
 		super(screen, BackpackExtensions.BREWING_STAND.get(), extensions);
@@ -69,20 +70,30 @@ public class BrewingStandExtensionScreen extends AbstractExtensionScreen {
 	private void renderBrewing(@NotNull GuiGraphics graphics) {
 		int imageWidth = this.extension.getImageWidth();
 		int imageHeight = this.extension.getImageHeight();
-		if (this.brewTime > 0) {
-			int progress = (int) (28.0 * (1.0 - this.brewTime / 400.0));
+		int brewTime = this.getBrewTime();
+		if (brewTime > 0) {
+			int progress = (int) (28.0 * (1.0 - brewTime / 400.0));
 			if (progress > 0) {
 				graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, BREW_PROGRESS_SPRITE, 9, 28, 0, 0, this.leftPos + this.imageWidth + 75, this.topPos + 145, 9, progress);
 			}
-			int bubbles = BUBBLES[this.brewTime / 2 % 7];
+			int bubbles = BUBBLES[brewTime / 2 % 7];
 			if (bubbles > 0) {
 				graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, BUBBLES_SPRITE, 12, 29, 0, 29 - bubbles, this.leftPos + this.imageWidth + 42, this.topPos + 143 + 29 - bubbles, 12, bubbles);
 			}
 		}
 	}
 	
-	public void update(int fuel, int brewTime) {
+	private int getBrewTime() {
+		if (this.brewDuration > 0 && this.minecraft.level != null) {
+			long elapsed = Math.max(this.minecraft.level.getGameTime() - this.brewStart, 0);
+			return (int) Math.max(this.brewDuration - elapsed, 0);
+		}
+		return 0;
+	}
+	
+	public void update(int fuel, long brewStart, int brewDuration) {
 		this.fuel = fuel;
-		this.brewTime = brewTime;
+		this.brewStart = brewStart;
+		this.brewDuration = brewDuration;
 	}
 }
@@ -24,6 +24,7 @@ import net.luis.xbackpack.world.extension.BackpackExtension;
 import net.luis.xbackpack.world.extension.BackpackExtensions;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -39,8 +40,11 @@ public class FurnaceExtensionScreen extends AbstractExtensionScreen {
 	private static final ResourceLocation BURN_PROGRESS_SPRITE = ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "extensions/furnace/burn_progress");
 	private static final ResourceLocation LIT_PROGRESS_SPRITE = ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "extensions/furnace/lit_progress");
 	
+	private long gameTime;
 	private int cookingProgress;
-	private int fuelProgress;
+	private int cookingTime;
+	private int fuelTime;
+	private int maxFuel;
 	
 	public FurnaceExtensionScreen(@NotNull AbstractExtensionContainerScreen<?> screen, @NotNull List<BackpackExtension> extensions) {
 		super(screen, BackpackExtensions.FURNACE.get(), extensions);
@@ -49,13 +53,32 @@ public class FurnaceExtensionScreen extends AbstractExtensionScreen {
 	@Override
 	protected void renderAdditional(@NotNull GuiGraphics graphics, float partialTicks, int mouseX, int mouseY, boolean open) {
 		if (open) {
-			graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, LIT_PROGRESS_SPRITE, 14, 14, 0, 14 - this.fuelProgress, this.leftPos + this.imageWidth + 5, this.topPos + 104 - this.fuelProgress, 14, this.fuelProgress);
-			graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, BURN_PROGRESS_SPRITE, 24, 17, 0, 0, this.leftPos + this.imageWidth + 24, this.topPos + 88, this.cookingProgress, 17);
+			long elapsed = this.minecraft.level != null ? Math.max(this.minecraft.level.getGameTime() - this.gameTime, 0) : 0;
+			int fuelProgress = this.getFuelProgress(elapsed);
+			graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, LIT_PROGRESS_SPRITE, 14, 14, 0, 14 - fuelProgress, this.leftPos + this.imageWidth + 5, this.topPos + 104 - fuelProgress, 14, fuelProgress);
+			graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, BURN_PROGRESS_SPRITE, 24, 17, 0, 0, this.leftPos + this.imageWidth + 24, this.topPos + 88, this.getCookingProgress(elapsed), 17);
 		}
 	}
 	
-	public void update(int cookingProgress, int fuelProgress) {
+	private int getCookingProgress(long elapsed) {
+		if (this.cookingTime > 0) {
+			long burning = Math.min(elapsed, Math.max(this.fuelTime - 1, 0));
+			long cookingProgress = Mth.clamp(this.cookingProgress + burning - (elapsed - burning), 0, this.cookingTime);
+			return (int) (cookingProgress * 24 / this.cookingTime);
+		}
+		return 0;
+	}
+	
+	private int getFuelProgress(long elapsed) {
+		int maxFuel = this.maxFuel == 0 ? 200 : this.maxFuel;
+		return (int) (Math.max(this.fuelTime - elapsed, 0) * 14 / maxFuel);
+	}
+	
+	public void update(long gameTime, int cookingProgress, int cookingTime, int fuelTime, int maxFuel) {
+		this.gameTime = gameTime;
 		this.cookingProgress = cookingProgress;
-		this.fuelProgress = fuelProgress;
+		this.cookingTime = cookingTime;
+		this.fuelTime = fuelTime;
+		this.maxFuel = maxFuel;
 	}
 }
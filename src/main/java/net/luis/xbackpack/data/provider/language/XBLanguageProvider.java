@@ -68,6 +68,8 @@ public class XBLanguageProvider extends LanguageProvider {
 		this.add("xbackpack.commands.backpack.set.failure.disabled", "Can not set the state of %s, because the backpack extension is disabled by the mod");
 		this.add("xbackpack.commands.backpack.set.success.single", "Set successfully the state of backpack extension %s of player %s to state %s");
 		this.add("xbackpack.commands.backpack.set.success.multiple", "Set successfully the state of %s backpack extensions of player %s to state %s");
+		this.add("xbackpack.commands.backpack.statistics.merge", "%s backpack merges took %s µs on average and %s µs at most");
+		this.add("xbackpack.commands.backpack.statistics.merge.reset", "Reset the backpack merge statistics");
 		this.add("xbackpack.commands.tooltip.set.success.true", "The item modification information was enabled");
 		this.add("xbackpack.commands.tooltip.set.success.false", "The item modification information was disabled");
 		this.add("xbackpack.commands.tooltip.get.success.true", "The item modification information is enabled");
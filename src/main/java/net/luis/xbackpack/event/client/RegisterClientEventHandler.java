@@ -20,9 +20,13 @@ package net.luis.xbackpack.event.client;
 
 import net.luis.xbackpack.XBackpack;
 import net.luis.xbackpack.client.XBKeyMappings;
+import net.luis.xbackpack.world.inventory.modifier.ItemSearchKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.AddClientReloadListenersEvent;
 import net.neoforged.neoforge.client.event.RegisterKeyMappingsEvent;
 import org.jetbrains.annotations.NotNull;
 
@@ -43,4 +47,9 @@ public class RegisterClientEventHandler {
 		event.register(XBKeyMappings.BACKPACK_SLOT_MID);
 		event.register(XBKeyMappings.BACKPACK_SLOT_DOWN);
 	}
+	
+	@SubscribeEvent
+	public static void addClientReloadListeners(@NotNull AddClientReloadListenersEvent event) {
+		event.addListener(ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "item_search_keys"), (ResourceManagerReloadListener) resourceManager -> ItemSearchKey.clearCache());
+	}
 }
@@ -20,6 +20,7 @@ package net.luis.xbackpack.event.entity;
 
 import net.luis.xbackpack.XBackpack;
 import net.luis.xbackpack.world.capability.BackpackProvider;
+import net.luis.xbackpack.world.capability.IBackpack;
 import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
@@ -38,7 +39,10 @@ public class EntityEventHandler {
 	@SubscribeEvent
 	public static void entityJoinLevel(@NotNull EntityJoinLevelEvent event) {
 		if (event.getEntity() instanceof ServerPlayer player) {
-			BackpackProvider.get(player).broadcastChanges();
+			IBackpack backpack = BackpackProvider.get(player);
+			backpack.catchUp();
+			backpack.requestFullSync();
+			backpack.broadcastChanges();
 		}
 	}
 }
@@ -21,8 +21,6 @@ package net.luis.xbackpack.event.entity.player;
 import net.luis.xbackpack.XBackpack;
 import net.luis.xbackpack.world.capability.BackpackProvider;
 import net.luis.xbackpack.world.capability.IBackpack;
-import net.luis.xbackpack.world.inventory.BackpackMenu;
-import net.minecraft.core.RegistryAccess;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -51,7 +49,9 @@ public class PlayerEventHandler {
 	@SubscribeEvent
 	public static void playerChangedDimension(PlayerEvent.@NotNull PlayerChangedDimensionEvent event) {
 		if (event.getEntity() instanceof ServerPlayer player) {
-			BackpackProvider.get(player).broadcastChanges();
+			IBackpack backpack = BackpackProvider.get(player);
+			backpack.requestFullSync();
+			backpack.broadcastChanges();
 		}
 	}
 	
@@ -60,17 +60,16 @@ public class PlayerEventHandler {
 		Player original = event.getOriginal();
 		Player player = event.getEntity();
 		if (event.isWasDeath()) {
-			IBackpack oldBackpack = BackpackProvider.get(original);
-			IBackpack newBackpack = BackpackProvider.get(player);
-			RegistryAccess access = original.registryAccess();
-			newBackpack.deserialize(access, oldBackpack.serialize(access));
+			BackpackProvider.get(player).transferFrom(BackpackProvider.get(original));
 		}
 	}
 	
 	@SubscribeEvent
 	public static void playerRespawn(PlayerEvent.@NotNull PlayerRespawnEvent event) {
 		if (event.getEntity() instanceof ServerPlayer player) {
-			BackpackProvider.get(player).broadcastChanges();
+			IBackpack backpack = BackpackProvider.get(player);
+			backpack.requestFullSync();
+			backpack.broadcastChanges();
 		}
 	}
 	
@@ -78,9 +77,6 @@ public class PlayerEventHandler {
 	public static void playerTick(PlayerTickEvent.@NotNull Pre event) {
 		if (!event.getEntity().level().isClientSide()) {
 			BackpackProvider.get(event.getEntity()).tick();
-			if (event.getEntity().containerMenu instanceof BackpackMenu menu) {
-				menu.tick();
-			}
 		}
 	}
 }
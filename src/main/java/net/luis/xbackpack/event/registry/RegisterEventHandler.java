@@ -20,9 +20,12 @@ package net.luis.xbackpack.event.registry;
 
 import net.luis.xbackpack.XBackpack;
 import net.luis.xbackpack.server.commands.BackpackCommand;
+import net.luis.xbackpack.world.inventory.modifier.ItemSearchKey;
+import net.luis.xbackpack.world.inventory.modifier.ItemTagIndex;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -38,4 +41,10 @@ public class RegisterEventHandler {
 	public static void registerCommands(@NotNull RegisterCommandsEvent event) {
 		BackpackCommand.register(event.getDispatcher(), event.getBuildContext());
 	}
+	
+	@SubscribeEvent
+	public static void tagsUpdated(@NotNull TagsUpdatedEvent event) {
+		ItemTagIndex.invalidate();
+		ItemSearchKey.clearCache();
+	}
 }
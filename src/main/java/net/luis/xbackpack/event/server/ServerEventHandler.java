@@ -0,0 +1,62 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.event.server;
+
+import net.luis.xbackpack.XBackpack;
+import net.luis.xbackpack.world.capability.BackpackProvider;
+import net.luis.xbackpack.world.inventory.extension.StonecutterRecipeCache;
+import net.luis.xbackpack.world.inventory.progress.CookingRecipeCache;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+@EventBusSubscriber(modid = XBackpack.MOD_ID)
+public class ServerEventHandler {
+	
+	@SubscribeEvent
+	public static void serverTick(ServerTickEvent.@NotNull Post event) {
+		for (ServerPlayer player : event.getServer().getPlayerList().getPlayers()) {
+			BackpackProvider.get(player).getSyncScheduler().flush(player);
+		}
+	}
+	
+	@SubscribeEvent
+	public static void tagsUpdated(@NotNull TagsUpdatedEvent event) {
+		if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+			CookingRecipeCache.invalidate();
+			StonecutterRecipeCache.invalidate();
+		}
+	}
+	
+	@SubscribeEvent
+	public static void serverStopped(@NotNull ServerStoppedEvent event) {
+		CookingRecipeCache.invalidate();
+		StonecutterRecipeCache.invalidate();
+	}
+}
@@ -19,10 +19,13 @@
 package net.luis.xbackpack.network;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.neoforged.neoforge.network.PacketDistributor;
 
+import java.util.List;
+
 /**
  *
  * @author Luis-St
@@ -56,4 +59,12 @@ public enum XBNetworkHandler {
 	public <T extends NetworkPacket> void sendToPlayer(ServerPlayer player, T packet) {
 		PacketDistributor.sendToPlayer(player, packet);
 	}
+
+	public <T extends NetworkPacket> void sendToPlayer(ServerPlayer player, List<T> packets) {
+		if (packets.size() == 1) {
+			this.sendToPlayer(player, packets.getFirst());
+		} else if (!packets.isEmpty()) {
+			PacketDistributor.sendToPlayer(player, packets.getFirst(), packets.subList(1, packets.size()).toArray(CustomPacketPayload[]::new));
+		}
+	}
 }
@@ -0,0 +1,65 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.network.packet;
+
+import net.luis.xbackpack.XBackpack;
+import net.luis.xbackpack.client.XBClientPacketHandler;
+import net.luis.xbackpack.network.NetworkPacket;
+import net.luis.xbackpack.world.backpack.sync.SlotChange;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public record UpdateBackpackChangesPacket(int version, @NotNull CompoundTag state, @NotNull List<SlotChange> changes) implements NetworkPacket {
+	
+	public static final CustomPacketPayload.Type<UpdateBackpackChangesPacket> TYPE =
+		new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "update_backpack_changes"));
+	
+	public static final StreamCodec<RegistryFriendlyByteBuf, UpdateBackpackChangesPacket> STREAM_CODEC = StreamCodec.composite(
+		ByteBufCodecs.VAR_INT, UpdateBackpackChangesPacket::version,
+		ByteBufCodecs.COMPOUND_TAG, UpdateBackpackChangesPacket::state,
+		SlotChange.STREAM_CODEC.apply(ByteBufCodecs.list()), UpdateBackpackChangesPacket::changes,
+		UpdateBackpackChangesPacket::new
+	);
+	
+	@Override
+	public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+		return TYPE;
+	}
+	
+	@Override
+	public void handle(@NotNull IPayloadContext context) {
+		context.enqueueWork(() -> {
+			XBClientPacketHandler.updateBackpackChanges(this.version, this.state, this.changes);
+		});
+	}
+}
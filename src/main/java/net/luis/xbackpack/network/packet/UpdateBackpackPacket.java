@@ -36,12 +36,13 @@ import org.jetbrains.annotations.NotNull;
  *
  */
 
-public record UpdateBackpackPacket(@NotNull CompoundTag tag) implements NetworkPacket {
+public record UpdateBackpackPacket(int version, @NotNull CompoundTag tag) implements NetworkPacket {
 
 	public static final CustomPacketPayload.Type<UpdateBackpackPacket> TYPE =
 		new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "update_backpack"));
 
 	public static final StreamCodec<ByteBuf, UpdateBackpackPacket> STREAM_CODEC = StreamCodec.composite(
+		ByteBufCodecs.VAR_INT, UpdateBackpackPacket::version,
 		ByteBufCodecs.COMPOUND_TAG, UpdateBackpackPacket::tag,
 		UpdateBackpackPacket::new
 	);
@@ -54,7 +55,7 @@ public record UpdateBackpackPacket(@NotNull CompoundTag tag) implements NetworkP
 	@Override
 	public void handle(@NotNull IPayloadContext context) {
 		context.enqueueWork(() -> {
-			XBClientPacketHandler.updateBackpack(this.tag);
+			XBClientPacketHandler.updateBackpack(this.version, this.tag);
 		});
 	}
 }
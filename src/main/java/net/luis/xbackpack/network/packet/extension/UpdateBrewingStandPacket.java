@@ -35,14 +35,15 @@ import org.jetbrains.annotations.NotNull;
  *
  */
 
-public record UpdateBrewingStandPacket(int fuel, int brewTime) implements NetworkPacket {
+public record UpdateBrewingStandPacket(int fuel, long brewStart, int brewDuration) implements NetworkPacket {
 
 	public static final CustomPacketPayload.Type<UpdateBrewingStandPacket> TYPE =
 		new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "update_brewing_stand"));
 
 	public static final StreamCodec<ByteBuf, UpdateBrewingStandPacket> STREAM_CODEC = StreamCodec.composite(
 		ByteBufCodecs.VAR_INT, UpdateBrewingStandPacket::fuel,
-		ByteBufCodecs.VAR_INT, UpdateBrewingStandPacket::brewTime,
+		ByteBufCodecs.VAR_LONG, UpdateBrewingStandPacket::brewStart,
+		ByteBufCodecs.VAR_INT, UpdateBrewingStandPacket::brewDuration,
 		UpdateBrewingStandPacket::new
 	);
 
@@ -54,7 +55,7 @@ public record UpdateBrewingStandPacket(int fuel, int brewTime) implements Networ
 	@Override
 	public void handle(@NotNull IPayloadContext context) {
 		context.enqueueWork(() -> {
-			XBClientPacketHandler.updateBrewingStandExtension(this.fuel, this.brewTime);
+			XBClientPacketHandler.updateBrewingStandExtension(this.fuel, this.brewStart, this.brewDuration);
 		});
 	}
 }
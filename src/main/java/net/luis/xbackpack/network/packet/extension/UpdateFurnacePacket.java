@@ -35,14 +35,17 @@ import org.jetbrains.annotations.NotNull;
  *
  */
 
-public record UpdateFurnacePacket(int cookingProgress, int fuelProgress) implements NetworkPacket {
+public record UpdateFurnacePacket(long gameTime, int cookingProgress, int cookingTime, int fuelTime, int maxFuel) implements NetworkPacket {
 
 	public static final CustomPacketPayload.Type<UpdateFurnacePacket> TYPE =
 		new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "update_furnace"));
 
 	public static final StreamCodec<ByteBuf, UpdateFurnacePacket> STREAM_CODEC = StreamCodec.composite(
+		ByteBufCodecs.VAR_LONG, UpdateFurnacePacket::gameTime,
 		ByteBufCodecs.VAR_INT, UpdateFurnacePacket::cookingProgress,
-		ByteBufCodecs.VAR_INT, UpdateFurnacePacket::fuelProgress,
+		ByteBufCodecs.VAR_INT, UpdateFurnacePacket::cookingTime,
+		ByteBufCodecs.VAR_INT, UpdateFurnacePacket::fuelTime,
+		ByteBufCodecs.VAR_INT, UpdateFurnacePacket::maxFuel,
 		UpdateFurnacePacket::new
 	);
 
@@ -54,7 +57,7 @@ public record UpdateFurnacePacket(int cookingProgress, int fuelProgress) impleme
 	@Override
 	public void handle(@NotNull IPayloadContext context) {
 		context.enqueueWork(() -> {
-			XBClientPacketHandler.updateFurnaceExtension(this.cookingProgress, this.fuelProgress);
+			XBClientPacketHandler.updateFurnaceExtension(this.gameTime, this.cookingProgress, this.cookingTime, this.fuelTime, this.maxFuel);
 		});
 	}
 }
@@ -36,13 +36,14 @@ import org.jetbrains.annotations.NotNull;
  *
  */
 
-public record UpdateSearchTermPacket(@NotNull String searchBoxValue) implements NetworkPacket {
+public record UpdateSearchTermPacket(@NotNull String searchBoxValue, int mappingHash) implements NetworkPacket {
 
 	public static final CustomPacketPayload.Type<UpdateSearchTermPacket> TYPE =
 		new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "update_search_term"));
 
 	public static final StreamCodec<ByteBuf, UpdateSearchTermPacket> STREAM_CODEC = StreamCodec.composite(
 		ByteBufCodecs.STRING_UTF8, UpdateSearchTermPacket::searchBoxValue,
+		ByteBufCodecs.INT, UpdateSearchTermPacket::mappingHash,
 		UpdateSearchTermPacket::new
 	);
 
@@ -56,7 +57,7 @@ public record UpdateSearchTermPacket(@NotNull String searchBoxValue) implements
 		context.enqueueWork(() -> {
 			ServerPlayer player = (ServerPlayer) context.player();
 			if (player.containerMenu instanceof BackpackMenu menu) {
-				menu.setSearchTerm(this.searchBoxValue);
+				menu.setSearchTerm(this.searchBoxValue, this.mappingHash);
 			}
 		});
 	}
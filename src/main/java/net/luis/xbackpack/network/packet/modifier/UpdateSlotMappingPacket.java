@@ -0,0 +1,82 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.network.packet.modifier;
+
+import io.netty.buffer.ByteBuf;
+import net.luis.xbackpack.XBackpack;
+import net.luis.xbackpack.client.XBClientPacketHandler;
+import net.luis.xbackpack.network.NetworkPacket;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public record UpdateSlotMappingPacket(boolean reply, int mappingHash, int @NotNull [] mapping) implements NetworkPacket {
+
+	public static final CustomPacketPayload.Type<UpdateSlotMappingPacket> TYPE =
+		new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(XBackpack.MOD_ID, "update_slot_mapping"));
+
+	public static final StreamCodec<ByteBuf, UpdateSlotMappingPacket> STREAM_CODEC = new StreamCodec<>() {
+		@Override
+		public void encode(@NotNull ByteBuf buffer, @NotNull UpdateSlotMappingPacket packet) {
+			ByteBufCodecs.BOOL.encode(buffer, packet.reply);
+			ByteBufCodecs.INT.encode(buffer, packet.mappingHash);
+			ByteBufCodecs.VAR_INT.encode(buffer, packet.mapping.length);
+			for (int slot : packet.mapping) {
+				ByteBufCodecs.VAR_INT.encode(buffer, slot + 1);
+			}
+		}
+
+		@Override
+		public @NotNull UpdateSlotMappingPacket decode(@NotNull ByteBuf buffer) {
+			boolean reply = ByteBufCodecs.BOOL.decode(buffer);
+			int mappingHash = ByteBufCodecs.INT.decode(buffer);
+			int length = ByteBufCodecs.VAR_INT.decode(buffer);
+			int[] mapping = new int[length];
+			for (int i = 0; i < length; i++) {
+				mapping[i] = ByteBufCodecs.VAR_INT.decode(buffer) - 1;
+			}
+			return new UpdateSlotMappingPacket(reply, mappingHash, mapping);
+		}
+	};
+
+	public static @NotNull UpdateSlotMappingPacket confirm(int mappingHash) {
+		return new UpdateSlotMappingPacket(true, mappingHash, new int[0]);
+	}
+
+	@Override
+	public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+		return TYPE;
+	}
+
+	@Override
+	public void handle(@NotNull IPayloadContext context) {
+		context.enqueueWork(() -> {
+			XBClientPacketHandler.updateBackpackSlotMapping(this.reply, this.mappingHash, this.mapping);
+		});
+	}
+}
@@ -25,6 +25,7 @@ import net.luis.xbackpack.server.commands.arguments.BackpackExtensionStateArgume
 import net.luis.xbackpack.world.capability.BackpackProvider;
 import net.luis.xbackpack.world.capability.IBackpack;
 import net.luis.xbackpack.world.extension.*;
+import net.luis.xbackpack.world.inventory.BackpackMergeStatistics;
 import net.minecraft.commands.*;
 import net.minecraft.commands.arguments.EntityArgument;
 import net.minecraft.network.chat.Component;
@@ -56,7 +57,11 @@ public class BackpackCommand {
 			return getExtensionState(command.getSource(), EntityArgument.getPlayer(command, "player"), Lists.newArrayList(BackpackExtensionArgument.get(command, "extension")));
 		}).then(Commands.argument("state", BackpackExtensionStateArgument.state()).executes((command) -> {
 			return setExtensionState(command.getSource(), EntityArgument.getPlayer(command, "player"), Lists.newArrayList(BackpackExtensionArgument.get(command, "extension")), BackpackExtensionStateArgument.get(command, "state"));
-		})))))/* Add here other settings */);
+		}))))).then(Commands.literal("statistics").then(Commands.literal("merge").executes((command) -> {
+			return getMergeStatistics(command.getSource());
+		}).then(Commands.literal("reset").executes((command) -> {
+			return resetMergeStatistics(command.getSource());
+		}))))/* Add here other settings */);
 	}
 	
 	private static int getExtensionState(CommandSourceStack source, ServerPlayer player, @NotNull List<BackpackExtension> extensions) {
@@ -91,6 +96,17 @@ public class BackpackCommand {
 		return 1;
 	}
 	
+	private static int getMergeStatistics(@NotNull CommandSourceStack source) {
+		source.sendSuccess(() -> Component.translatable("xbackpack.commands.backpack.statistics.merge", BackpackMergeStatistics.getMerges(), BackpackMergeStatistics.getAverageTime() / 1000, BackpackMergeStatistics.getMaxTime() / 1000), false);
+		return (int) Math.min(BackpackMergeStatistics.getMerges(), Integer.MAX_VALUE);
+	}
+	
+	private static int resetMergeStatistics(@NotNull CommandSourceStack source) {
+		BackpackMergeStatistics.reset();
+		source.sendSuccess(() -> Component.translatable("xbackpack.commands.backpack.statistics.merge.reset"), false);
+		return 1;
+	}
+	
 	private static @NotNull String getName(BackpackExtension extension) {
 		String[] nameParts = Objects.requireNonNull(BackpackExtensions.REGISTRY.getKey(extension)).getPath().split("_");
 		StringBuilder name = new StringBuilder();
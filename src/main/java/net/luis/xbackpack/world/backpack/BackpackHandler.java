@@ -18,14 +18,18 @@
 
 package net.luis.xbackpack.world.backpack;
 
+import com.google.common.collect.Lists;
 import net.luis.xbackpack.BackpackConstants;
 import net.luis.xbackpack.XBackpack;
-import net.luis.xbackpack.network.XBNetworkHandler;
+import net.luis.xbackpack.network.NetworkPacket;
+import net.luis.xbackpack.network.packet.UpdateBackpackChangesPacket;
 import net.luis.xbackpack.network.packet.UpdateBackpackPacket;
 import net.luis.xbackpack.world.backpack.config.BackpackConfig;
+import net.luis.xbackpack.world.backpack.sync.*;
 import net.luis.xbackpack.world.capability.IBackpack;
 import net.luis.xbackpack.world.inventory.handler.*;
 import net.luis.xbackpack.world.inventory.progress.*;
+import net.luis.xbackpack.world.item.CompactItemStorage;
 import net.luis.xbackpack.world.item.DynamicItemStackHandler;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -36,6 +40,9 @@ import net.minecraft.world.level.storage.*;
 import net.neoforged.neoforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  *
  * @author Luis-St
@@ -44,13 +51,13 @@ import org.jetbrains.annotations.NotNull;
 
 public class BackpackHandler implements IBackpack {
 
-	public static final int DATA_VERSION = 1;
+	public static final int DATA_VERSION = 2;
 	
 	private Player player;
 	private BackpackConfig config;
-	private final ItemStackHandler backpackHandler = new DynamicItemStackHandler(873);
-	private final ItemStackHandler toolHandler = new DynamicItemStackHandler(3);
-	private final ItemStackHandler craftingHandler = new DynamicItemStackHandler(9);
+	private final DynamicItemStackHandler backpackHandler = new DynamicItemStackHandler(873);
+	private final DynamicItemStackHandler toolHandler = new DynamicItemStackHandler(3);
+	private final DynamicItemStackHandler craftingHandler = new DynamicItemStackHandler(9);
 	private final SmeltingHandler furnaceHandler = new SmeltingHandler(1, 4, 4);
 	private SmeltingProgressHandler smeltHandler;
 	private final CraftingHandler anvilHandler = new CraftingHandler(2, 1);
@@ -60,17 +67,35 @@ public class BackpackHandler implements IBackpack {
 	private BrewingProgressHandler brewHandler;
 	private final CraftingHandler grindstoneHandler = new CraftingHandler(2, 1);
 	private final CraftingHandler smithingHandler = new CraftingHandler(3, 1);
+	private final BackpackSyncScheduler syncScheduler = new BackpackSyncScheduler();
+	private final List<DynamicItemStackHandler> itemHandlers = Lists.newArrayList();
+	private long cachedItemsStamp = -1;
+	private CompoundTag cachedItemsTag;
+	private int syncVersion;
+	private boolean fullSyncRequired = true;
+	private boolean awaitingFullSync;
+	private long lastTickTime = -1;
 
 	public BackpackHandler(Player player) {
 		this.setPlayer(player);
+		this.itemHandlers.add(this.backpackHandler);
+		this.itemHandlers.add(this.toolHandler);
+		this.itemHandlers.add(this.craftingHandler);
+		this.itemHandlers.addAll(this.furnaceHandler.getHandlers());
+		this.itemHandlers.addAll(this.anvilHandler.getHandlers());
+		this.itemHandlers.addAll(this.enchantingHandler.getHandlers());
+		this.itemHandlers.addAll(this.stonecutterHandler.getHandlers());
+		this.itemHandlers.addAll(this.brewingHandler.getHandlers());
+		this.itemHandlers.addAll(this.grindstoneHandler.getHandlers());
+		this.itemHandlers.addAll(this.smithingHandler.getHandlers());
 	}
 
 	public void setPlayer(Player player) {
 		if (this.player == null && player != null) {
 			this.player = player;
 			this.config = new BackpackConfig(this.player);
-			this.smeltHandler = new SmeltingProgressHandler(this.player, this.furnaceHandler, BackpackConstants.FURNACE_RECIPE_TYPES);
-			this.brewHandler = new BrewingProgressHandler(this.player, this.brewingHandler);
+			this.smeltHandler = new SmeltingProgressHandler(this.player, this.syncScheduler, this.furnaceHandler, BackpackConstants.FURNACE_RECIPE_TYPES);
+			this.brewHandler = new BrewingProgressHandler(this.player, this.syncScheduler, this.brewingHandler);
 		}
 	}
 	
@@ -144,45 +169,157 @@ public class BackpackHandler implements IBackpack {
 		return this.smithingHandler;
 	}
 	
+	@Override
+	public @NotNull BackpackSyncScheduler getSyncScheduler() {
+		return this.syncScheduler;
+	}
+	
 	@Override
 	public void tick() {
+		this.catchUp();
 		this.smeltHandler.tick();
 		this.brewHandler.tick();
 	}
 	
+	@Override
+	public void catchUp() {
+		long gameTime = this.player.level().getGameTime();
+		if (this.lastTickTime >= 0 && gameTime - 1 > this.lastTickTime) {
+			long ticks = gameTime - 1 - this.lastTickTime;
+			this.smeltHandler.catchUp(ticks);
+			this.brewHandler.catchUp(ticks);
+		}
+		this.lastTickTime = gameTime;
+	}
+	
+	@Override
+	public void requestFullSync() {
+		this.fullSyncRequired = true;
+	}
+	
 	@Override
 	public boolean broadcastChanges() {
 		if (this.player instanceof ServerPlayer player) {
-			this.config.updateServer();
-			XBNetworkHandler.INSTANCE.sendToPlayer(player, new UpdateBackpackPacket(this.serialize(player.registryAccess())));
+			this.syncScheduler.schedule(SyncPart.BACKPACK, () -> this.createSyncPacket(player));
 			return true;
 		}
 		XBackpack.LOGGER.warn("Can not broadcast changes on the client");
 		return false;
 	}
 	
+	private @NotNull NetworkPacket createSyncPacket(@NotNull ServerPlayer player) {
+		this.config.updateServer();
+		this.syncVersion++;
+		if (this.fullSyncRequired) {
+			this.fullSyncRequired = false;
+			this.itemHandlers.forEach(DynamicItemStackHandler::clearChangedSlots);
+			return new UpdateBackpackPacket(this.syncVersion, this.serialize(player.registryAccess()));
+		}
+		return new UpdateBackpackChangesPacket(this.syncVersion, this.serializeState(), this.collectChanges());
+	}
+	
+	private @NotNull CompoundTag serializeState() {
+		CompoundTag tag = new CompoundTag();
+		tag.put("backpack_config", this.config.serialize());
+		tag.put("smelt_handler", this.smeltHandler.serialize());
+		tag.put("brew_handler", this.brewHandler.serialize());
+		return tag;
+	}
+	
+	private @NotNull List<SlotChange> collectChanges() {
+		List<SlotChange> changes = Lists.newArrayList();
+		for (int i = 0; i < this.itemHandlers.size(); i++) {
+			DynamicItemStackHandler handler = this.itemHandlers.get(i);
+			if (handler.hasChangedSlots()) {
+				BitSet changedSlots = handler.getChangedSlots();
+				for (int slot = changedSlots.nextSetBit(0); slot >= 0 && slot < handler.getSlots(); slot = changedSlots.nextSetBit(slot + 1)) {
+					changes.add(new SlotChange(i, slot, handler.getStackInSlot(slot).copy()));
+				}
+				handler.clearChangedSlots();
+			}
+		}
+		return changes;
+	}
+	
+	public void setSyncVersion(int version) {
+		this.syncVersion = version;
+		this.awaitingFullSync = false;
+	}
+	
+	public boolean applyChanges(int version, @NotNull CompoundTag state, @NotNull List<SlotChange> changes) {
+		if (this.awaitingFullSync) {
+			return true;
+		}
+		if (version != this.syncVersion + 1) {
+			XBackpack.LOGGER.debug("Backpack sync version mismatch, expected {} but received {}", this.syncVersion + 1, version);
+			this.awaitingFullSync = true;
+			return false;
+		}
+		this.syncVersion = version;
+		this.config.deserialize(state.getCompoundOrEmpty("backpack_config"));
+		this.smeltHandler.deserialize(state.getCompoundOrEmpty("smelt_handler"));
+		this.brewHandler.deserialize(state.getCompoundOrEmpty("brew_handler"));
+		for (SlotChange change : changes) {
+			if (0 > change.handler() || change.handler() >= this.itemHandlers.size()) {
+				XBackpack.LOGGER.warn("Received a backpack change for an unknown handler {}", change.handler());
+				continue;
+			}
+			DynamicItemStackHandler handler = this.itemHandlers.get(change.handler());
+			if (0 > change.slot() || change.slot() >= handler.getSlots()) {
+				XBackpack.LOGGER.warn("Received a backpack change for an unknown slot {} of handler {}", change.slot(), change.handler());
+				continue;
+			}
+			handler.setStackInSlot(change.slot(), change.stack());
+		}
+		this.itemHandlers.forEach(DynamicItemStackHandler::clearChangedSlots);
+		return true;
+	}
+	
 	@Override
 	public @NotNull CompoundTag serialize(HolderLookup.@NotNull Provider provider) {
 		CompoundTag tag = new CompoundTag();
 		tag.putInt("data_version", DATA_VERSION);
 		tag.put("backpack_config", this.config.serialize());
-		TagValueOutput output = TagValueOutput.createWithContext(ProblemReporter.DISCARDING, provider);
-		output.putChild("backpack_handler", this.backpackHandler);
-		output.putChild("tool_handler", this.toolHandler);
-		output.putChild("crafting_handler", this.craftingHandler);
-		tag.merge(output.buildResult());
-		tag.put("furnace_handler", this.furnaceHandler.serialize(provider));
+		tag.put("items", this.serializeItems(provider).copy());
 		tag.put("smelt_handler", this.smeltHandler.serialize());
-		tag.put("anvil_handler", this.anvilHandler.serialize(provider));
-		tag.put("enchanting_handler", this.enchantingHandler.serialize(provider));
-		tag.put("stonecutter_handler", this.stonecutterHandler.serialize(provider));
-		tag.put("brewing_handler", this.brewingHandler.serialize(provider));
 		tag.put("brew_handler", this.brewHandler.serialize());
-		tag.put("grindstone_handler", this.grindstoneHandler.serialize(provider));
-		tag.put("smithing_handler", this.smithingHandler.serialize(provider));
+		tag.putLong("last_tick_time", this.lastTickTime);
 		return tag;
 	}
-
+	
+	@Override
+	public void transferFrom(@NotNull IBackpack backpack) {
+		if (backpack instanceof BackpackHandler handler) {
+			this.config.transferFrom(handler.config);
+			for (int i = 0; i < this.itemHandlers.size(); i++) {
+				this.itemHandlers.get(i).transferFrom(handler.itemHandlers.get(i));
+			}
+			this.smeltHandler.transferFrom(handler.smeltHandler);
+			this.brewHandler.transferFrom(handler.brewHandler);
+			this.lastTickTime = handler.lastTickTime;
+		} else {
+			HolderLookup.Provider provider = this.player.registryAccess();
+			this.deserialize(provider, backpack.serialize(provider));
+		}
+	}
+	
+	public long getModificationStamp() {
+		long stamp = 0;
+		for (DynamicItemStackHandler handler : this.itemHandlers) {
+			stamp += handler.getModificationCount();
+		}
+		return stamp;
+	}
+	
+	private @NotNull CompoundTag serializeItems(HolderLookup.@NotNull Provider provider) {
+		long stamp = this.getModificationStamp();
+		if (this.cachedItemsTag == null || this.cachedItemsStamp != stamp) {
+			this.cachedItemsTag = CompactItemStorage.serialize(provider, this.itemHandlers);
+			this.cachedItemsStamp = stamp;
+		}
+		return this.cachedItemsTag;
+	}
+	
 	@Override
 	public void deserialize(HolderLookup.@NotNull Provider provider, @NotNull CompoundTag tag) {
 		int dataVersion = 0;
@@ -190,6 +327,12 @@ public class BackpackHandler implements IBackpack {
 			dataVersion = tag.getIntOr("data_version", 0);
 		}
 		if (dataVersion == DATA_VERSION) {
+			this.config.deserialize(tag.getCompoundOrEmpty("backpack_config"));
+			CompactItemStorage.deserialize(provider, tag.getCompoundOrEmpty("items"), this.itemHandlers);
+			this.smeltHandler.deserialize(tag.getCompoundOrEmpty("smelt_handler"));
+			this.brewHandler.deserialize(tag.getCompoundOrEmpty("brew_handler"));
+			this.lastTickTime = tag.getLongOr("last_tick_time", -1);
+		} else if (dataVersion == 1) {
 			this.config.deserialize(tag.getCompoundOrEmpty("backpack_config"));
 			ValueInput input = TagValueInput.create(ProblemReporter.DISCARDING, provider, tag);
 			input.child("backpack_handler").ifPresent(this.backpackHandler::deserialize);
@@ -66,6 +66,10 @@ public class BackpackConfig {
 		}
 	}
 	
+	public void transferFrom(@NotNull BackpackConfig config) {
+		this.extensionConfig.transferFrom(config.extensionConfig);
+	}
+	
 	//region Serialization
 	public @NotNull CompoundTag serialize() {
 		CompoundTag tag = new CompoundTag();
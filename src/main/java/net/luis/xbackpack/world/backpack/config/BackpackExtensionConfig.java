@@ -29,7 +29,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 
 /**
  *
@@ -40,13 +39,34 @@ import java.util.stream.Collectors;
 public class BackpackExtensionConfig {
 	
 	private final Map<BackpackExtension, Data> states = Maps.newHashMap();
+	private final Map<BackpackExtensionState, BitSet> stateViews = new EnumMap<>(BackpackExtensionState.class);
+	private int version;
 	
 	public BackpackExtensionConfig() {
+		for (BackpackExtensionState state : BackpackExtensionState.values()) {
+			this.stateViews.put(state, new BitSet());
+		}
 		for (BackpackExtension extension : BackpackExtensions.REGISTRY) {
-			this.states.put(extension, new Data(BackpackExtensionState.LOCKED, 0));
+			this.putData(extension, new Data(BackpackExtensionState.LOCKED, 0));
+		}
+	}
+	
+	private void putData(@NotNull BackpackExtension extension, @NotNull Data data) {
+		Data oldData = this.states.put(extension, data);
+		if (!data.equals(oldData)) {
+			int id = BackpackExtensions.REGISTRY.getId(extension);
+			if (oldData != null) {
+				this.stateViews.get(oldData.state()).clear(id);
+			}
+			this.stateViews.get(data.state()).set(id);
+			this.version++;
 		}
 	}
 	
+	public int getVersion() {
+		return this.version;
+	}
+	
 	private @NotNull Data getData(@NotNull BackpackExtension extension) {
 		return this.states.getOrDefault(extension, new Data(BackpackExtensionState.LOCKED, 0));
 	}
@@ -56,13 +76,16 @@ public class BackpackExtensionConfig {
 	}
 	
 	public @NotNull List<BackpackExtension> getWithState(@NotNull BackpackExtensionState state) {
-		return this.states.entrySet().stream().filter((entry) -> {
-			return entry.getValue().state() == state;
-		}).map(Entry::getKey).collect(Collectors.toList());
+		BitSet view = this.stateViews.get(state);
+		List<BackpackExtension> extensions = new ArrayList<>(view.cardinality());
+		for (int id = view.nextSetBit(0); id >= 0; id = view.nextSetBit(id + 1)) {
+			extensions.add(BackpackExtensions.REGISTRY.byId(id));
+		}
+		return extensions;
 	}
 	
 	public void setState(@NotNull ServerPlayer player, @NotNull BackpackExtension extension, @NotNull BackpackExtensionState state) {
-		this.states.put(extension, new Data(state, player.getStats().getValue(Stats.ITEM_CRAFTED, extension.getUnlockItem().getItem())));
+		this.putData(extension, new Data(state, player.getStats().getValue(Stats.ITEM_CRAFTED, extension.getUnlockItem().getItem())));
 	}
 	
 	public void update(@NotNull ServerPlayer player) {
@@ -80,6 +103,16 @@ public class BackpackExtensionConfig {
 		}
 	}
 	
+	public void transferFrom(@NotNull BackpackExtensionConfig config) {
+		this.states.clear();
+		this.states.putAll(config.states);
+		for (BackpackExtensionState state : BackpackExtensionState.values()) {
+			this.stateViews.get(state).clear();
+			this.stateViews.get(state).or(config.stateViews.get(state));
+		}
+		this.version++;
+	}
+	
 	//region Serialization
 	public @NotNull CompoundTag serialize() {
 		CompoundTag tag = new CompoundTag();
@@ -103,7 +136,7 @@ public class BackpackExtensionConfig {
 			BackpackExtensionState state = BackpackExtensionState.fromString(stateTag.getString("value").orElse(""), BackpackExtensionState.LOCKED);
 			int unlockCount = stateTag.getInt("unlock_count").orElse(0);
 			if (extension != null) {
-				this.states.put(extension, new Data(state, unlockCount));
+				this.putData(extension, new Data(state, unlockCount));
 			}
 		}
 	}
@@ -0,0 +1,57 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.backpack.sync;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.luis.xbackpack.network.NetworkPacket;
+import net.luis.xbackpack.network.XBNetworkHandler;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class BackpackSyncScheduler {
+	
+	private final Map<SyncPart, Supplier<? extends NetworkPacket>> scheduledParts = Maps.newEnumMap(SyncPart.class);
+	
+	public void schedule(@NotNull SyncPart part, @NotNull Supplier<? extends NetworkPacket> packet) {
+		this.scheduledParts.put(part, packet);
+	}
+	
+	public void flush(@NotNull ServerPlayer player) {
+		if (this.scheduledParts.isEmpty()) {
+			return;
+		}
+		List<NetworkPacket> packets = Lists.newArrayList();
+		for (Supplier<? extends NetworkPacket> packet : this.scheduledParts.values()) {
+			packets.add(packet.get());
+		}
+		this.scheduledParts.clear();
+		XBNetworkHandler.INSTANCE.sendToPlayer(player, packets);
+	}
+}
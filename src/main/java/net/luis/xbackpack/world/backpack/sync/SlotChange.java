@@ -0,0 +1,41 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.backpack.sync;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public record SlotChange(int handler, int slot, @NotNull ItemStack stack) {
+	
+	public static final StreamCodec<RegistryFriendlyByteBuf, SlotChange> STREAM_CODEC = StreamCodec.composite(
+		ByteBufCodecs.VAR_INT, SlotChange::handler,
+		ByteBufCodecs.VAR_INT, SlotChange::slot,
+		ItemStack.OPTIONAL_STREAM_CODEC, SlotChange::stack,
+		SlotChange::new
+	);
+}
@@ -19,6 +19,7 @@
 package net.luis.xbackpack.world.capability;
 
 import net.luis.xbackpack.world.backpack.config.BackpackConfig;
+import net.luis.xbackpack.world.backpack.sync.BackpackSyncScheduler;
 import net.luis.xbackpack.world.inventory.handler.*;
 import net.luis.xbackpack.world.inventory.progress.ProgressHandler;
 import net.minecraft.core.HolderLookup;
@@ -63,10 +64,18 @@ public interface IBackpack {
 	
 	@NotNull CraftingHandler getSmithingHandler();
 	
+	@NotNull BackpackSyncScheduler getSyncScheduler();
+	
 	void tick();
 	
+	void catchUp();
+	
+	void requestFullSync();
+	
 	boolean broadcastChanges();
 	
+	void transferFrom(@NotNull IBackpack backpack);
+	
 	@NotNull CompoundTag serialize(HolderLookup.@NotNull Provider provider);
 	
 	void deserialize(HolderLookup.@NotNull Provider provider, @NotNull CompoundTag tag);
@@ -19,6 +19,9 @@
 package net.luis.xbackpack.world.inventory;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.IntIterable;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntIterators;
 import net.luis.xbackpack.world.extension.BackpackExtension;
 import net.luis.xbackpack.world.extension.BackpackExtensions;
 import net.luis.xbackpack.world.inventory.extension.*;
@@ -42,6 +45,7 @@ import java.util.Optional;
 public abstract class AbstractExtensionContainerMenu extends AbstractContainerMenu {
 	
 	private final List<AbstractExtensionMenu> extensionMenus = Lists.newArrayList();
+	private final List<AbstractExtensionMenu> scheduledUpdates = Lists.newArrayList();
 	private BackpackExtension extension = BackpackExtensions.NO.get();
 	
 	protected AbstractExtensionContainerMenu(@NotNull MenuType<?> menuType, int id, @NotNull Inventory inventory) {
@@ -61,32 +65,36 @@ public abstract class AbstractExtensionContainerMenu extends AbstractContainerMe
 		this.getExtensionMenu().ifPresent(AbstractExtensionMenu::open);
 	}
 	
+	protected @NotNull IntIterable getMergeCandidates(@NotNull ItemStack stack, int startIndex, int endIndex) {
+		return () -> IntIterators.fromTo(startIndex, endIndex);
+	}
+	
+	protected int getFirstEmptySlot(@NotNull ItemStack stack, int startIndex, int endIndex) {
+		for (int i = startIndex; i < endIndex; i++) {
+			Slot slot = this.getSlot(i);
+			if (slot.mayPlace(stack) && !slot.hasItem()) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
 	public boolean moveItemStackTo(@NotNull ItemStack stack, int startIndex, int endIndex) {
 		if (!stack.isStackable()) {
-			for (int i = startIndex; i < endIndex; i++) {
-				Slot slot = this.getSlot(i);
-				if (!slot.mayPlace(stack)) {
-					continue;
-				}
-				if (!slot.hasItem()) {
-					slot.setByPlayer(stack.copy());
-					stack.setCount(0);
-					slot.setChanged();
-					return true;
-				}
+			int emptySlot = this.getFirstEmptySlot(stack, startIndex, endIndex);
+			if (emptySlot != -1) {
+				Slot slot = this.getSlot(emptySlot);
+				slot.setByPlayer(stack.copy());
+				stack.setCount(0);
+				slot.setChanged();
+				return true;
 			}
 			return false;
 		}
-		int firstEmptySlot = -1;
-		for (int i = startIndex; i < endIndex; i++) {
-			Slot slot = this.getSlot(i);
-			if (!slot.mayPlace(stack)) {
-				continue;
-			}
-			if (!slot.hasItem()) {
-				if (firstEmptySlot == -1) {
-					firstEmptySlot = i;
-				}
+		IntIterator iterator = this.getMergeCandidates(stack, startIndex, endIndex).iterator();
+		while (iterator.hasNext()) {
+			Slot slot = this.getSlot(iterator.nextInt());
+			if (!slot.mayPlace(stack) || !slot.hasItem()) {
 				continue;
 			}
 			ItemStack slotStack = slot.getItem();
@@ -106,7 +114,8 @@ public abstract class AbstractExtensionContainerMenu extends AbstractContainerMe
 				slot.setChanged();
 			}
 		}
-		if (!stack.isEmpty() && firstEmptySlot != -1) {
+		int firstEmptySlot = stack.isEmpty() ? -1 : this.getFirstEmptySlot(stack, startIndex, endIndex);
+		if (firstEmptySlot != -1) {
 			Slot slot = this.getSlot(firstEmptySlot);
 			slot.setByPlayer(stack.copy());
 			stack.setCount(0);
@@ -121,8 +130,25 @@ public abstract class AbstractExtensionContainerMenu extends AbstractContainerMe
 		return extensionMenu != null && extensionMenu.quickMoveStack(slotStack, index);
 	}
 	
-	public void tick() {
-		this.extensionMenus.stream().filter(AbstractExtensionMenu::requiresTickUpdate).forEach(AbstractExtensionMenu::slotsChanged);
+	public void scheduleUpdate(@NotNull AbstractExtensionMenu extensionMenu) {
+		this.scheduledUpdates.add(extensionMenu);
+	}
+	
+	@Override
+	public void broadcastChanges() {
+		if (!this.scheduledUpdates.isEmpty()) {
+			List<AbstractExtensionMenu> extensionMenus = Lists.newArrayList(this.scheduledUpdates);
+			this.scheduledUpdates.clear();
+			extensionMenus.forEach(AbstractExtensionMenu::update);
+		}
+		super.broadcastChanges();
+	}
+	
+	@Override
+	public void removed(@NotNull Player player) {
+		super.removed(player);
+		this.extensionMenus.forEach(AbstractExtensionMenu::removed);
+		this.scheduledUpdates.clear();
 	}
 	
 	@Override
@@ -162,8 +162,10 @@ public abstract class AbstractModifiableContainerMenu extends AbstractExtensionC
 		if (this.player instanceof ServerPlayer player) {
 			XBNetworkHandler.INSTANCE.sendToPlayer(player, new UpdateItemModifiersPacket(this.filter, this.sorter));
 			this.onItemModifiersChanged(player);
+		} else if (this.player.level().isClientSide()) {
+			this.onItemModifiersChanged(this.player);
 		}
 	}
 	
-	protected abstract void onItemModifiersChanged(@NotNull ServerPlayer player);
+	protected abstract void onItemModifiersChanged(@NotNull Player player);
 }
@@ -19,23 +19,37 @@
 package net.luis.xbackpack.world.inventory;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Queues;
+import it.unimi.dsi.fastutil.ints.IntIterable;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.luis.xbackpack.BackpackConstants;
+import net.luis.xbackpack.XBackpack;
+import net.luis.xbackpack.network.XBNetworkHandler;
+import net.luis.xbackpack.network.packet.modifier.UpdateSlotMappingPacket;
 import net.luis.xbackpack.world.capability.BackpackProvider;
 import net.luis.xbackpack.world.capability.IBackpack;
 import net.luis.xbackpack.world.extension.BackpackExtensions;
 import net.luis.xbackpack.world.inventory.extension.*;
 import net.luis.xbackpack.world.inventory.handler.ModifiableHandler;
+import net.luis.xbackpack.world.inventory.modifier.filter.ItemFilter;
 import net.luis.xbackpack.world.inventory.modifier.filter.ItemFilters;
+import net.luis.xbackpack.world.inventory.modifier.sorter.ItemSorter;
 import net.luis.xbackpack.world.inventory.slot.*;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.ClickType;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.ItemStackLinkedSet;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 
 import static net.luis.xbackpack.world.inventory.modifier.sorter.ItemSorters.*;
@@ -49,6 +63,17 @@ import static net.luis.xbackpack.world.inventory.modifier.sorter.ItemSorters.*;
 public class BackpackMenu extends AbstractModifiableContainerMenu {
 	
 	private final ModifiableHandler handler;
+	private final List<ItemStack> viewStacks = Lists.newArrayList();
+	private @Nullable ItemFilter viewFilter;
+	private @Nullable ItemSorter viewSorter;
+	private String viewSearchTerm = "";
+	private boolean viewNegate;
+	private int viewModificationCount = -1;
+	private final Deque<int[]> sentMappings = Queues.newArrayDeque();
+	private int[] confirmedMapping;
+	private boolean hasClientMappingHash;
+	private int clientMappingHash;
+	private boolean rejectNextClick;
 	
 	public BackpackMenu(int id, @NotNull Inventory inventory, @NotNull FriendlyByteBuf byteBuf) {
 		this(id, inventory);
@@ -59,6 +84,7 @@ public class BackpackMenu extends AbstractModifiableContainerMenu {
 		Player player = inventory.player;
 		IBackpack backpack = BackpackProvider.get(player);
 		this.handler = new ModifiableHandler(backpack.getBackpackHandler());
+		this.confirmedMapping = this.handler.getMapping();
 		for (int i = 0; i < this.handler.getSlots() / 9; i++) {
 			for (int j = 0; j < 9; j++) {
 				this.addSlot(new BackpackSlot(this.handler, j + i * 9, 30 + j * 18, 18 + i * 18));
@@ -99,6 +125,29 @@ public class BackpackMenu extends AbstractModifiableContainerMenu {
 		return true;
 	}
 	
+	@Override
+	protected @NotNull IntIterable getMergeCandidates(@NotNull ItemStack stack, int startIndex, int endIndex) {
+		if (startIndex >= 0 && this.handler.getSlots() >= endIndex) {
+			return this.handler.getPartialSlots(stack, startIndex, endIndex);
+		}
+		return super.getMergeCandidates(stack, startIndex, endIndex);
+	}
+	
+	@Override
+	protected int getFirstEmptySlot(@NotNull ItemStack stack, int startIndex, int endIndex) {
+		if (startIndex >= 0 && this.handler.getSlots() >= endIndex) {
+			int index = this.handler.getFirstFreeSlot(startIndex, endIndex);
+			if (index == -1) {
+				return -1;
+			}
+			Slot slot = this.getSlot(index);
+			if (slot.mayPlace(stack) && !slot.hasItem()) {
+				return index;
+			}
+		}
+		return super.getFirstEmptySlot(stack, startIndex, endIndex);
+	}
+	
 	@Override
 	public @NotNull ItemStack quickMoveStack(@NotNull Player player, int index) {
 		ItemStack stack = ItemStack.EMPTY;
@@ -195,41 +244,104 @@ public class BackpackMenu extends AbstractModifiableContainerMenu {
 		return super.clickMenuButton(player, button);
 	}
 	
+	@Override
+	public void clicked(int slotId, int button, @NotNull ClickType clickType, @NotNull Player player) {
+		if (this.rejectNextClick) {
+			this.rejectNextClick = false;
+			if (player instanceof ServerPlayer serverPlayer) {
+				this.sendMapping(serverPlayer, false);
+			}
+			this.sendAllDataToRemote();
+			BackpackProvider.get(player).requestFullSync();
+			BackpackProvider.get(player).broadcastChanges();
+			return;
+		}
+		super.clicked(slotId, button, clickType, player);
+	}
+	
+	@Override
+	public void setItem(int slotId, int stateId, @NotNull ItemStack stack) {
+		if (this.isBackpackSlot(slotId)) {
+			this.handler.setStackInSlot(slotId, stack, this.confirmedMapping);
+			this.stateId = stateId;
+		} else {
+			super.setItem(slotId, stateId, stack);
+		}
+	}
+	
+	@Override
+	public void initializeContents(int stateId, @NotNull List<ItemStack> items, @NotNull ItemStack carried) {
+		for (int i = 0; i < items.size(); i++) {
+			if (this.isBackpackSlot(i)) {
+				this.handler.setStackInSlot(i, items.get(i), this.confirmedMapping);
+			} else {
+				this.getSlot(i).set(items.get(i));
+			}
+		}
+		this.setCarried(carried);
+		this.stateId = stateId;
+	}
+	
+	private boolean isBackpackSlot(int slotId) {
+		return slotId >= 0 && this.handler.getSlots() > slotId;
+	}
+	
 	private void mergeInventory(@NotNull ServerPlayer player) {
-		List<ItemStack> failedStacks = Lists.newArrayList();
-		ModifiableHandler handler = new ModifiableHandler(this.handler.getSlots());
+		long start = System.nanoTime();
 		this.handler.resetWrappedSlots();
+		this.sendMapping(player, false);
+		Object2IntMap<ItemStack> counts = new Object2IntLinkedOpenCustomHashMap<>(ItemStackLinkedSet.TYPE_AND_TAG);
 		for (int i = 0; i < this.handler.getSlots(); i++) {
 			ItemStack stack = this.handler.getStackInSlot(i);
 			if (!stack.isEmpty()) {
-				stack = handler.insertItem(stack, false);
-				if (!stack.isEmpty()) {
-					failedStacks.add(stack);
-				}
+				ItemStack key = counts.containsKey(stack) ? stack : stack.copyWithCount(1);
+				counts.mergeInt(key, stack.getCount(), Integer::sum);
 			}
 		}
-		for (int i = 0; i < handler.getSlots(); i++) {
-			if (this.handler.getWrappedSlot(i) != i) {
-				this.handler.setWrappedSlot(i, i);
+		List<ItemStack> failedStacks = Lists.newArrayList();
+		int slot = 0;
+		for (Object2IntMap.Entry<ItemStack> entry : counts.object2IntEntrySet()) {
+			ItemStack key = entry.getKey();
+			int count = entry.getIntValue();
+			while (count > 0 && this.handler.getSlots() > slot) {
+				int size = Math.min(count, Math.min(key.getMaxStackSize(), this.handler.getSlotLimit(slot)));
+				this.updateMergedSlot(slot++, key.copyWithCount(size));
+				count -= size;
+			}
+			while (count > 0) {
+				int size = Math.min(count, key.getMaxStackSize());
+				failedStacks.add(key.copyWithCount(size));
+				count -= size;
 			}
-			this.handler.setStackInSlot(i, handler.getStackInSlot(i));
 		}
-		failedStacks.removeIf(ItemStack::isEmpty);
-		if (!failedStacks.isEmpty()) {
-			failedStacks.forEach(stack -> player.drop(stack, false));
-			failedStacks.clear();
+		while (this.handler.getSlots() > slot) {
+			this.updateMergedSlot(slot++, ItemStack.EMPTY);
 		}
+		failedStacks.forEach(stack -> player.drop(stack, false));
 		this.broadcastChanges();
+		long time = System.nanoTime() - start;
+		BackpackMergeStatistics.record(time);
+		if (XBackpack.LOGGER.isDebugEnabled()) {
+			XBackpack.LOGGER.debug("Merged backpack of {} into {} item groups in {} µs, {} stacks overflowed", player.getName().getString(), counts.size(), time / 1000, failedStacks.size());
+		}
+	}
+	
+	private void updateMergedSlot(int slot, @NotNull ItemStack stack) {
+		if (!ItemStack.matches(this.handler.getStackInSlot(slot), stack)) {
+			this.handler.setStackInSlot(slot, stack);
+		}
 	}
 	
 	@Override
-	protected void onItemModifiersChanged(@NotNull ServerPlayer player) {
+	protected void onItemModifiersChanged(@NotNull Player player) {
 		if (this.getFilter() == ItemFilters.NONE && this.getSorter() == NONE) {
 			this.handler.resetWrappedSlots();
+			this.viewFilter = null;
 		} else {
-			List<ItemStack> stacks = this.handler.createModifiableList();
 			String searchTerm = this.getSearchTerm();
 			boolean negate = this.isNegate();
+			int modificationCount = this.handler.getModificationCount();
+			List<ItemStack> stacks = this.canNarrowView(searchTerm, negate, modificationCount) ? Lists.newArrayList(this.viewStacks) : this.handler.createModifiableList();
 			if (!searchTerm.isEmpty()) {
 				switch (this.getSorter()) {
 					case NAME_SEARCH -> stacks.removeIf((stack) -> !ItemFilters.NAME_SEARCH.canKeepItem(stack, searchTerm, negate));
@@ -240,8 +352,81 @@ public class BackpackMenu extends AbstractModifiableContainerMenu {
 				}
 			}
 			stacks.removeIf((stack) -> !this.getFilter().canKeepItem(stack, searchTerm, negate));
+			this.viewStacks.clear();
+			this.viewStacks.addAll(stacks);
+			this.viewFilter = this.getFilter();
+			this.viewSorter = this.getSorter();
+			this.viewSearchTerm = searchTerm;
+			this.viewNegate = negate;
+			this.viewModificationCount = modificationCount;
 			this.handler.applyModifications(this.getSorter().sort(stacks, searchTerm, negate));
 		}
-		this.broadcastChanges();
+		if (player instanceof ServerPlayer serverPlayer) {
+			this.sendMapping(serverPlayer, this.hasClientMappingHash);
+			this.broadcastChanges();
+		}
+	}
+	
+	public void setSearchTerm(@NotNull String searchTerm, int mappingHash) {
+		this.hasClientMappingHash = true;
+		this.clientMappingHash = mappingHash;
+		this.setSearchTerm(searchTerm);
+		this.hasClientMappingHash = false;
+	}
+	
+	public void validateMapping(@NotNull ServerPlayer player, int mappingHash) {
+		this.rejectNextClick = this.handler.getMappingHash() != mappingHash;
+		if (this.rejectNextClick) {
+			if (XBackpack.LOGGER.isDebugEnabled()) {
+				XBackpack.LOGGER.debug("Slot mapping of {} is out of sync, the next click is rejected", player.getName().getString());
+			}
+			this.sendMapping(player, false);
+		}
+	}
+	
+	private void sendMapping(@NotNull ServerPlayer player, boolean reply) {
+		int mappingHash = this.handler.getMappingHash();
+		if (reply && this.clientMappingHash == mappingHash) {
+			XBNetworkHandler.INSTANCE.sendToPlayer(player, UpdateSlotMappingPacket.confirm(mappingHash));
+		} else {
+			XBNetworkHandler.INSTANCE.sendToPlayer(player, new UpdateSlotMappingPacket(reply, mappingHash, this.handler.getMapping()));
+		}
+	}
+	
+	public int getConfirmedMappingHash() {
+		return Arrays.hashCode(this.confirmedMapping);
+	}
+	
+	public int snapshotMapping() {
+		int[] mapping = this.handler.getMapping();
+		this.sentMappings.add(mapping);
+		return Arrays.hashCode(mapping);
+	}
+	
+	public void updateMapping(boolean reply, int mappingHash, int @NotNull [] mapping, boolean searchTermPending) {
+		if (reply) {
+			int[] sentMapping = this.sentMappings.poll();
+			if (mapping.length > 0) {
+				this.confirmedMapping = mapping;
+			} else if (sentMapping != null && Arrays.hashCode(sentMapping) == mappingHash) {
+				this.confirmedMapping = sentMapping;
+			}
+		} else {
+			this.confirmedMapping = mapping;
+		}
+		if (!searchTermPending && this.sentMappings.isEmpty() && this.handler.getMappingHash() != Arrays.hashCode(this.confirmedMapping)) {
+			this.handler.setMapping(this.confirmedMapping);
+		}
+	}
+	
+	private boolean canNarrowView(@NotNull String searchTerm, boolean negate, int modificationCount) {
+		if (this.viewFilter != this.getFilter() || this.viewModificationCount != modificationCount) {
+			return false;
+		} else if (negate || this.viewNegate || !searchTerm.startsWith(this.viewSearchTerm)) {
+			return false;
+		} else if (this.getSorter() != NAME_SEARCH && this.getSorter() != NAMESPACE_SEARCH) {
+			return false;
+		}
+		return this.viewSorter == this.getSorter() || this.viewSearchTerm.isEmpty();
 	}
 }
@@ -0,0 +1,59 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.inventory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class BackpackMergeStatistics {
+	
+	private static final AtomicLong MERGES = new AtomicLong();
+	private static final AtomicLong TOTAL_TIME = new AtomicLong();
+	private static final AtomicLong MAX_TIME = new AtomicLong();
+	
+	public static void record(long time) {
+		MERGES.incrementAndGet();
+		TOTAL_TIME.addAndGet(time);
+		MAX_TIME.accumulateAndGet(time, Math::max);
+	}
+	
+	public static long getMerges() {
+		return MERGES.get();
+	}
+	
+	public static long getAverageTime() {
+		long merges = MERGES.get();
+		return merges > 0 ? TOTAL_TIME.get() / merges : 0;
+	}
+	
+	public static long getMaxTime() {
+		return MAX_TIME.get();
+	}
+	
+	public static void reset() {
+		MERGES.set(0);
+		TOTAL_TIME.set(0);
+		MAX_TIME.set(0);
+	}
+}
@@ -18,14 +18,17 @@
 
 package net.luis.xbackpack.world.inventory.extension;
 
+import com.google.common.collect.Lists;
 import net.luis.xbackpack.world.extension.BackpackExtension;
 import net.luis.xbackpack.world.inventory.AbstractExtensionContainerMenu;
+import net.luis.xbackpack.world.item.DynamicItemStackHandler;
 import net.minecraft.world.Container;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -39,6 +42,9 @@ public abstract class AbstractExtensionMenu {
 	private final BackpackExtension extension;
 	protected final AbstractExtensionContainerMenu menu;
 	protected final Player player;
+	private final Runnable contentsListener = this::onContentsChanged;
+	private final List<DynamicItemStackHandler> listenedHandlers = Lists.newArrayList();
+	private boolean updateScheduled;
 	
 	protected AbstractExtensionMenu(@NotNull AbstractExtensionContainerMenu menu, @NotNull Player player, @NotNull BackpackExtension extension) {
 		this.menu = menu;
@@ -50,8 +56,21 @@ public abstract class AbstractExtensionMenu {
 	
 	public abstract void addSlots(@NotNull Consumer<Slot> consumer);
 	
-	public boolean requiresTickUpdate() {
-		return false;
+	protected void listenTo(@NotNull DynamicItemStackHandler handler) {
+		handler.addListener(this.contentsListener);
+		this.listenedHandlers.add(handler);
+	}
+	
+	private void onContentsChanged() {
+		if (!this.updateScheduled) {
+			this.updateScheduled = true;
+			this.menu.scheduleUpdate(this);
+		}
+	}
+	
+	public void update() {
+		this.slotsChanged();
+		this.updateScheduled = false;
 	}
 	
 	public void slotsChanged(@NotNull Container container) {}
@@ -84,6 +103,11 @@ public abstract class AbstractExtensionMenu {
 	
 	public void close() {}
 	
+	public void removed() {
+		this.listenedHandlers.forEach(handler -> handler.removeListener(this.contentsListener));
+		this.listenedHandlers.clear();
+	}
+	
 	public @NotNull AbstractExtensionContainerMenu getMenu() {
 		return this.menu;
 	}
@@ -19,8 +19,8 @@
 package net.luis.xbackpack.world.inventory.extension;
 
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import net.luis.xbackpack.network.XBNetworkHandler;
 import net.luis.xbackpack.network.packet.extension.UpdateAnvilPacket;
+import net.luis.xbackpack.world.backpack.sync.SyncPart;
 import net.luis.xbackpack.world.capability.BackpackProvider;
 import net.luis.xbackpack.world.extension.BackpackExtensions;
 import net.luis.xbackpack.world.inventory.AbstractExtensionContainerMenu;
@@ -268,7 +268,9 @@ public class AnvilExtensionMenu extends AbstractExtensionMenu {
 	}
 	
 	private void broadcastChanges() {
-		XBNetworkHandler.INSTANCE.sendToPlayer(this.player, new UpdateAnvilPacket(this.cost));
+		if (this.player instanceof ServerPlayer) {
+			BackpackProvider.get(this.player).getSyncScheduler().schedule(SyncPart.ANVIL, () -> new UpdateAnvilPacket(this.cost));
+		}
 	}
 	
 	public int getCost() {
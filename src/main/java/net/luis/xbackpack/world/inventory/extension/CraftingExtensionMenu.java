@@ -24,6 +24,7 @@ import net.luis.xbackpack.world.inventory.AbstractExtensionContainerMenu;
 import net.luis.xbackpack.world.inventory.extension.slot.ExtensionResultSlot;
 import net.luis.xbackpack.world.inventory.extension.slot.ExtensionSlot;
 import net.luis.xbackpack.world.inventory.wrapper.CraftingContainerWrapper;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.Container;
 import net.minecraft.world.entity.player.Player;
@@ -31,10 +32,8 @@ import net.minecraft.world.inventory.ResultContainer;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.*;
-import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -48,6 +47,8 @@ public class CraftingExtensionMenu extends AbstractExtensionMenu {
 	
 	private final CraftingContainerWrapper craftingWrapper;
 	private final ResultContainer resultWrapper;
+	private final CraftingRecipeCache recipeCache = new CraftingRecipeCache();
+	private Slot resultSlot;
 	
 	public CraftingExtensionMenu(@NotNull AbstractExtensionContainerMenu menu, @NotNull Player player) {
 		super(menu, player, BackpackExtensions.CRAFTING_TABLE.get());
@@ -67,7 +68,8 @@ public class CraftingExtensionMenu extends AbstractExtensionMenu {
 				consumer.accept(new ExtensionSlot(this, this.craftingWrapper, j + i * 3, 225 + j * 18, 25 + i * 18));
 			}
 		}
-		consumer.accept(new ExtensionResultSlot(this, this.player, this.craftingWrapper, this.resultWrapper, 0, 243, 110));
+		this.resultSlot = new ExtensionResultSlot(this, this.player, this.craftingWrapper, this.resultWrapper, 0, 243, 110);
+		consumer.accept(this.resultSlot);
 	}
 	
 	@Override
@@ -78,17 +80,18 @@ public class CraftingExtensionMenu extends AbstractExtensionMenu {
 	}
 	
 	private void slotChangedCraftingGrid() {
-		Level level = this.player.level();
-		if (!level.isClientSide() && this.player instanceof ServerPlayer player) {
+		if (this.player instanceof ServerPlayer player) {
 			ItemStack stack = ItemStack.EMPTY;
-			Optional<RecipeHolder<CraftingRecipe>> optional = Objects.requireNonNull(level.getServer()).getRecipeManager().getRecipeFor(RecipeType.CRAFTING, this.craftingWrapper.asCraftInput(), level);
+			CraftingInput input = this.craftingWrapper.asCraftInput();
+			Optional<RecipeHolder<CraftingRecipe>> optional = this.recipeCache.getRecipe(player.level(), input);
 			if (optional.isPresent()) {
 				RecipeHolder<CraftingRecipe> recipe = optional.get();
 				this.resultWrapper.setRecipeUsed(recipe);
-				stack = recipe.value().assemble(this.craftingWrapper.asCraftInput(), player.level().registryAccess());
+				stack = recipe.value().assemble(input, player.level().registryAccess());
 			}
 			this.resultWrapper.setItem(0, stack);
-			BackpackProvider.get(this.player).broadcastChanges();
+			this.menu.setRemoteSlot(this.resultSlot.index, stack);
+			player.connection.send(new ClientboundContainerSetSlotPacket(this.menu.containerId, this.menu.incrementStateId(), this.resultSlot.index, stack));
 		}
 	}
 	
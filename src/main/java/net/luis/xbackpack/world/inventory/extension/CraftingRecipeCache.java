@@ -0,0 +1,77 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.inventory.extension;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class CraftingRecipeCache {
+	
+	private static final int MAX_CACHE_SIZE = 16;
+	
+	private final Map<GridKey, RecipeHolder<CraftingRecipe>> recipes = new LinkedHashMap<>(MAX_CACHE_SIZE, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.@NotNull Entry<GridKey, RecipeHolder<CraftingRecipe>> eldest) {
+			return this.size() > MAX_CACHE_SIZE;
+		}
+	};
+	private @Nullable RecipeManager recipeManager;
+	private @Nullable RecipeHolder<CraftingRecipe> lastRecipe;
+	
+	public @NotNull Optional<RecipeHolder<CraftingRecipe>> getRecipe(@NotNull ServerLevel level, @NotNull CraftingInput input) {
+		if (input.isEmpty()) {
+			return Optional.empty();
+		}
+		RecipeManager recipeManager = level.recipeAccess();
+		if (this.recipeManager != recipeManager) {
+			this.recipes.clear();
+			this.lastRecipe = null;
+			this.recipeManager = recipeManager;
+		}
+		if (this.lastRecipe != null && this.lastRecipe.value().matches(input, level)) {
+			return Optional.of(this.lastRecipe);
+		}
+		GridKey key = new GridKey(input.width(), input.height(), input.items().stream().map(ItemStack::getItem).toList());
+		RecipeHolder<CraftingRecipe> recipe = this.recipes.get(key);
+		if (recipe != null && recipe.value().matches(input, level)) {
+			this.lastRecipe = recipe;
+			return Optional.of(recipe);
+		}
+		Optional<RecipeHolder<CraftingRecipe>> optional = recipeManager.getRecipeFor(RecipeType.CRAFTING, input, level);
+		optional.ifPresent(holder -> {
+			this.recipes.put(key, holder);
+			this.lastRecipe = holder;
+		});
+		return optional;
+	}
+	
+	private record GridKey(int width, int height, @NotNull List<Item> items) {}
+}
@@ -180,16 +180,14 @@ public class EnchantmentTableExtensionMenu extends AbstractExtensionMenu {
 					boolean isBook = inputStack.is(Items.BOOK);
 					if (isBook) {
 						resultStack = inputStack.transmuteCopy(Items.ENCHANTED_BOOK);
-						this.handler.getInputHandler().setStackInSlot(0, resultStack);
 					}
 					for (EnchantmentInstance enchantment : enchantments) {
 						resultStack.enchant(enchantment.enchantment(), enchantment.level());
 					}
+					this.handler.getInputHandler().setStackInSlot(0, resultStack);
 					if (!player.getAbilities().instabuild) {
 						fuelStack.shrink(requiredFuel);
-						if (fuelStack.isEmpty()) {
-							this.handler.getFuelHandler().setStackInSlot(0, ItemStack.EMPTY);
-						}
+						this.handler.getFuelHandler().setStackInSlot(0, fuelStack.isEmpty() ? ItemStack.EMPTY : fuelStack);
 					}
 					player.awardStat(Stats.ENCHANT_ITEM);
 					if (player instanceof ServerPlayer serverPlayer) {
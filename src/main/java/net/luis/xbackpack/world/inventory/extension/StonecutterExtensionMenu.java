@@ -59,6 +59,7 @@ public class StonecutterExtensionMenu extends AbstractExtensionMenu {
 	public StonecutterExtensionMenu(@NotNull AbstractExtensionContainerMenu menu, @NotNull Player player) {
 		super(menu, player, BackpackExtensions.STONECUTTER.get());
 		this.handler = BackpackProvider.get(this.player).getStonecutterHandler();
+		this.listenTo(this.handler.getInputHandler());
 	}
 	
 	@Override
@@ -102,15 +103,6 @@ public class StonecutterExtensionMenu extends AbstractExtensionMenu {
 		player.connection.send(new ClientboundSoundPacket(BuiltInRegistries.SOUND_EVENT.wrapAsHolder(SoundEvents.UI_STONECUTTER_TAKE_RESULT), SoundSource.BLOCKS, player.getX(), player.getY(), player.getZ(), 1.0F, level.random.nextFloat() * 0.1F + 0.9F, level.random.nextLong()));
 	}
 	
-	public boolean requiresTickUpdate() {
-		ItemStack input = this.handler.getInputHandler().getStackInSlot(0);
-		ItemStack result = this.handler.getResultHandler().getStackInSlot(0);
-		if (result.isEmpty() && !this.recipesForInput.isEmpty()) {
-			return true;
-		}
-		return !input.isEmpty() && this.recipesForInput.isEmpty();
-	}
-	
 	@Override
 	public void slotsChanged() {
 		ItemStack stack = this.handler.getInputHandler().getStackInSlot(0);
@@ -127,6 +119,8 @@ public class StonecutterExtensionMenu extends AbstractExtensionMenu {
 		this.handler.getResultHandler().setStackInSlot(0, ItemStack.EMPTY);
 		if (stack.isEmpty()) {
 			this.recipesForInput = SelectableRecipe.SingleInputSet.empty();
+		} else if (this.player instanceof ServerPlayer player) {
+			this.recipesForInput = StonecutterRecipeCache.getRecipes(player.level(), stack);
 		} else {
 			this.recipesForInput = this.player.level().recipeAccess().stonecutterRecipes().selectByInput(stack);
 		}
@@ -0,0 +1,64 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.inventory.extension;
+
+import com.google.common.collect.Maps;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.SelectableRecipe;
+import net.minecraft.world.item.crafting.StonecutterRecipe;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class StonecutterRecipeCache {
+	
+	private static final int MAX_CACHE_SIZE = 1024;
+	private static final Map<Key, SelectableRecipe.SingleInputSet<StonecutterRecipe>> CACHE = Maps.newConcurrentMap();
+	
+	public static @NotNull SelectableRecipe.SingleInputSet<StonecutterRecipe> getRecipes(@NotNull ServerLevel level, @NotNull ItemStack stack) {
+		if (stack.isEmpty()) {
+			return SelectableRecipe.SingleInputSet.empty();
+		}
+		Key key = new Key(stack.getItem(), stack.getComponentsPatch());
+		SelectableRecipe.SingleInputSet<StonecutterRecipe> recipes = CACHE.get(key);
+		if (recipes == null) {
+			if (CACHE.size() >= MAX_CACHE_SIZE) {
+				CACHE.clear();
+			}
+			recipes = level.recipeAccess().stonecutterRecipes().selectByInput(stack);
+			CACHE.put(key, recipes);
+		}
+		return recipes;
+	}
+	
+	public static void invalidate() {
+		CACHE.clear();
+	}
+	
+	private record Key(@NotNull Item item, @NotNull DataComponentPatch patch) {}
+}
@@ -20,6 +20,7 @@ package net.luis.xbackpack.world.inventory.extension.slot;
 
 import net.luis.xbackpack.world.extension.BackpackExtension;
 import net.luis.xbackpack.world.inventory.extension.AbstractExtensionMenu;
+import net.luis.xbackpack.world.item.DynamicItemStackHandler;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.items.IItemHandler;
@@ -59,6 +60,14 @@ public class ExtensionSlot extends SlotItemHandler implements ExtensionMenuSlot
 		return this.extensionMenu.getExtension();
 	}
 	
+	@Override
+	public void setChanged() {
+		super.setChanged();
+		if (this.getItemHandler() instanceof DynamicItemStackHandler handler) {
+			handler.markChanged(this.getSlotIndex());
+		}
+	}
+	
 	@Override
 	public void set(@NotNull ItemStack stack) {
 		super.set(stack);
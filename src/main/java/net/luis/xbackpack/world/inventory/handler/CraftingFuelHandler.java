@@ -26,6 +26,8 @@ import net.minecraft.world.level.storage.*;
 import net.neoforged.neoforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  *
  * @author Luis-St
@@ -34,7 +36,7 @@ import org.jetbrains.annotations.NotNull;
 
 public class CraftingFuelHandler extends CraftingHandler {
 	
-	private final ItemStackHandler fuelHandler;
+	private final DynamicItemStackHandler fuelHandler;
 	
 	public CraftingFuelHandler(int input, int result) {
 		this(new DynamicItemStackHandler(input), new DynamicItemStackHandler(result));
@@ -57,6 +59,18 @@ public class CraftingFuelHandler extends CraftingHandler {
 		return this.fuelHandler;
 	}
 	
+	@Override
+	public @NotNull List<DynamicItemStackHandler> getHandlers() {
+		List<DynamicItemStackHandler> handlers = super.getHandlers();
+		handlers.add(this.fuelHandler);
+		return handlers;
+	}
+	
+	@Override
+	public int getModificationCount() {
+		return super.getModificationCount() + this.fuelHandler.getModificationCount();
+	}
+	
 	@Override
 	public @NotNull CompoundTag serialize(HolderLookup.@NotNull Provider provider) {
 		CompoundTag tag = super.serialize(provider);
@@ -18,14 +18,16 @@
 
 package net.luis.xbackpack.world.inventory.handler;
 
+import com.google.common.collect.Lists;
 import net.luis.xbackpack.world.item.DynamicItemStackHandler;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.util.ProblemReporter;
 import net.minecraft.world.level.storage.*;
-import net.neoforged.neoforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  *
  * @author Luis-St
@@ -34,8 +36,8 @@ import org.jetbrains.annotations.NotNull;
 
 public class CraftingHandler {
 
-	private final ItemStackHandler inputHandler;
-	private final ItemStackHandler resultHandler;
+	private final DynamicItemStackHandler inputHandler;
+	private final DynamicItemStackHandler resultHandler;
 
 	public CraftingHandler(@NotNull DynamicItemStackHandler inputHandler) {
 		this(inputHandler, new DynamicItemStackHandler(1));
@@ -50,14 +52,22 @@ public class CraftingHandler {
 		this.resultHandler = resultHandler;
 	}
 
-	public @NotNull ItemStackHandler getInputHandler() {
+	public @NotNull DynamicItemStackHandler getInputHandler() {
 		return this.inputHandler;
 	}
 
-	public @NotNull ItemStackHandler getResultHandler() {
+	public @NotNull DynamicItemStackHandler getResultHandler() {
 		return this.resultHandler;
 	}
 
+	public @NotNull List<DynamicItemStackHandler> getHandlers() {
+		return Lists.newArrayList(this.inputHandler, this.resultHandler);
+	}
+
+	public int getModificationCount() {
+		return this.inputHandler.getModificationCount() + this.resultHandler.getModificationCount();
+	}
+
 	public @NotNull CompoundTag serialize(HolderLookup.@NotNull Provider provider) {
 		CompoundTag tag = new CompoundTag();
 		TagValueOutput output = TagValueOutput.createWithContext(ProblemReporter.DISCARDING, provider);
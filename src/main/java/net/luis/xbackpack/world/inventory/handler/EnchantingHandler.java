@@ -18,6 +18,7 @@
 
 package net.luis.xbackpack.world.inventory.handler;
 
+import com.google.common.collect.Lists;
 import net.luis.xbackpack.world.item.DynamicItemStackHandler;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -26,6 +27,8 @@ import net.minecraft.world.level.storage.*;
 import net.neoforged.neoforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  *
  * @author Luis-St
@@ -34,9 +37,9 @@ import org.jetbrains.annotations.NotNull;
 
 public class EnchantingHandler {
 	
-	private final ItemStackHandler powerHandler;
-	private final ItemStackHandler inputHandler;
-	private final ItemStackHandler fuelHandler;
+	private final DynamicItemStackHandler powerHandler;
+	private final DynamicItemStackHandler inputHandler;
+	private final DynamicItemStackHandler fuelHandler;
 	
 	public EnchantingHandler(int power, int input) {
 		this(power, input, 1);
@@ -68,6 +71,10 @@ public class EnchantingHandler {
 		return this.fuelHandler;
 	}
 	
+	public @NotNull List<DynamicItemStackHandler> getHandlers() {
+		return Lists.newArrayList(this.powerHandler, this.inputHandler, this.fuelHandler);
+	}
+	
 	public @NotNull CompoundTag serialize(HolderLookup.@NotNull Provider provider) {
 		CompoundTag tag = new CompoundTag();
 		TagValueOutput output = TagValueOutput.createWithContext(ProblemReporter.DISCARDING, provider);
@@ -19,15 +19,18 @@
 package net.luis.xbackpack.world.inventory.handler;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.luis.xbackpack.core.components.XBDataComponents;
-import net.luis.xbackpack.world.inventory.slot.SlotWrapper;
+import net.luis.xbackpack.world.item.DynamicItemStackHandler;
+import net.minecraft.core.NonNullList;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.items.IItemHandlerModifiable;
 import net.neoforged.neoforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.function.Function;
 
 /**
  *
@@ -38,7 +41,12 @@ import java.util.function.Function;
 public class ModifiableHandler implements IItemHandlerModifiable {
 	
 	private final ItemStackHandler mainHandler;
-	private final List<SlotWrapper> slotWrappers;
+	private final int[] wrappedSlots;
+	private final int[] mainSlots;
+	private int modifiedSlots;
+	private final NonNullList<ItemStack> modifiableStacks;
+	private final int[] modifiableStackCounts;
+	private int modificationCount;
 	
 	public ModifiableHandler(int size) {
 		this(new ItemStackHandler(size));
@@ -46,8 +54,12 @@ public class ModifiableHandler implements IItemHandlerModifiable {
 	
 	public ModifiableHandler(@NotNull ItemStackHandler mainHandler) {
 		this.mainHandler = mainHandler;
-		this.slotWrappers = Lists.newArrayList();
-		this.initSlotWrappers(mainHandler.getSlots(), SlotWrapper::ofUnwrapped);
+		this.wrappedSlots = new int[mainHandler.getSlots()];
+		this.mainSlots = new int[mainHandler.getSlots()];
+		this.modifiableStacks = NonNullList.withSize(mainHandler.getSlots(), ItemStack.EMPTY);
+		this.modifiableStackCounts = new int[mainHandler.getSlots()];
+		Arrays.fill(this.modifiableStackCounts, -1);
+		this.resetWrappedSlots();
 	}
 	
 	private void validateSlotIndex(int slot) {
@@ -57,12 +69,7 @@ public class ModifiableHandler implements IItemHandlerModifiable {
 	}
 	
 	private boolean isCurrentlyModified() {
-		for (SlotWrapper slotWrapper : this.slotWrappers) {
-			if (slotWrapper.getMainSlot() != slotWrapper.getSlot()) {
-				return true;
-			}
-		}
-		return false;
+		return this.modifiedSlots > 0;
 	}
 	
 	@Override
@@ -133,47 +140,148 @@ public class ModifiableHandler implements IItemHandlerModifiable {
 		}
 	}
 	
-	private void initSlotWrappers(int size, @NotNull Function<Integer, SlotWrapper> function) {
-		for (int i = 0; i < size; i++) {
-			this.slotWrappers.add(function.apply(i));
+	public void setStackInSlot(int slot, @NotNull ItemStack stack, int @NotNull [] mapping) {
+		this.validateSlotIndex(slot);
+		int wrappedSlot = mapping.length > slot ? mapping[slot] : -1;
+		if (wrappedSlot != -1) {
+			this.mainHandler.setStackInSlot(wrappedSlot, stack);
+		}
+	}
+	
+	public void markChanged(int slot) {
+		int wrappedSlot = this.getWrappedSlot(slot);
+		if (wrappedSlot != -1 && this.mainHandler instanceof DynamicItemStackHandler handler) {
+			handler.markChanged(wrappedSlot);
 		}
 	}
 	
-	private @NotNull SlotWrapper getSlotWrapper(int mainSlot) {
-		this.validateSlotIndex(mainSlot);
-		SlotWrapper wrapper = this.slotWrappers.get(mainSlot);
-		if (wrapper.getMainSlot() == mainSlot) {
-			return wrapper;
+	public @NotNull IntList getPartialSlots(@NotNull ItemStack stack, int startSlot, int endSlot) {
+		IntList slots = new IntArrayList();
+		if (this.mainHandler instanceof DynamicItemStackHandler handler) {
+			for (int slot : handler.getIndex().getPartialSlots(stack)) {
+				int mainSlot = this.mainSlots[slot];
+				if (mainSlot >= startSlot && endSlot > mainSlot) {
+					slots.add(mainSlot);
+				}
+			}
+			if (this.isCurrentlyModified()) {
+				slots.sort(null);
+			}
+		} else {
+			for (int i = Math.max(startSlot, 0); i < Math.min(endSlot, this.getSlots()); i++) {
+				ItemStack slotStack = this.getStackInSlot(i);
+				if (!slotStack.isEmpty() && slotStack.getMaxStackSize() > slotStack.getCount() && ItemStack.isSameItemSameComponents(stack, slotStack)) {
+					slots.add(i);
+				}
+			}
+		}
+		return slots;
+	}
+	
+	public int getFirstFreeSlot(int startSlot, int endSlot) {
+		if (this.isCurrentlyModified()) {
+			return -1;
+		}
+		if (this.mainHandler instanceof DynamicItemStackHandler handler) {
+			int slot = handler.getIndex().getNextFreeSlot(startSlot);
+			return slot != -1 && Math.min(endSlot, this.getSlots()) > slot ? slot : -1;
+		}
+		for (int i = Math.max(startSlot, 0); i < Math.min(endSlot, this.getSlots()); i++) {
+			if (this.mainHandler.getStackInSlot(i).isEmpty()) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	private void updateWrappedSlot(int mainSlot, int slot) {
+		int oldSlot = this.wrappedSlots[mainSlot];
+		if (oldSlot != mainSlot) {
+			this.modifiedSlots--;
+		}
+		if (oldSlot != -1 && this.mainSlots[oldSlot] == mainSlot) {
+			this.mainSlots[oldSlot] = -1;
+		}
+		this.wrappedSlots[mainSlot] = slot;
+		if (slot != mainSlot) {
+			this.modifiedSlots++;
+		}
+		if (slot != -1) {
+			this.mainSlots[slot] = mainSlot;
 		}
-		return this.slotWrappers.stream().filter((slotWrapper) -> slotWrapper.getMainSlot() == mainSlot).findFirst().orElseThrow();
 	}
 	
 	public int getWrappedSlot(int mainSlot) {
-		return this.getSlotWrapper(mainSlot).getSlot();
+		this.validateSlotIndex(mainSlot);
+		return this.wrappedSlots[mainSlot];
 	}
 	
 	public void setWrappedSlot(int mainSlot, int slot) {
 		this.validateSlotIndex(mainSlot);
 		this.validateSlotIndex(slot);
-		this.getSlotWrapper(mainSlot).setSlot(slot);
+		this.updateWrappedSlot(mainSlot, slot);
 	}
 	
 	public void resetWrappedSlots() {
-		this.resetWrappedSlots(SlotWrapper::ofUnwrapped);
+		for (int i = 0; i < this.wrappedSlots.length; i++) {
+			this.wrappedSlots[i] = i;
+			this.mainSlots[i] = i;
+		}
+		this.modifiedSlots = 0;
 	}
 	
-	public void resetWrappedSlots(@NotNull Function<Integer, SlotWrapper> function) {
-		int size = this.slotWrappers.size();
-		this.slotWrappers.clear();
-		this.initSlotWrappers(size, function);
+	private void disableWrappedSlots() {
+		Arrays.fill(this.wrappedSlots, -1);
+		Arrays.fill(this.mainSlots, -1);
+		this.modifiedSlots = this.wrappedSlots.length;
 	}
 	
-	public @NotNull List<ItemStack> createModifiableList() {
-		List<ItemStack> stacks = Lists.newArrayList();
-		for (int i = 0; i < this.mainHandler.getSlots(); i++) {
+	public int @NotNull [] getMapping() {
+		return this.wrappedSlots.clone();
+	}
+	
+	public int getMappingHash() {
+		return Arrays.hashCode(this.wrappedSlots);
+	}
+	
+	public void setMapping(int @NotNull [] mapping) {
+		this.disableWrappedSlots();
+		for (int i = 0; i < this.wrappedSlots.length && i < mapping.length; i++) {
+			int slot = mapping[i];
+			if (slot >= 0 && this.wrappedSlots.length > slot) {
+				this.updateWrappedSlot(i, slot);
+			}
+		}
+	}
+	
+	private void updateModifiableStacks() {
+		for (int i = 0; i < this.modifiableStacks.size(); i++) {
+			if (this.mainHandler instanceof DynamicItemStackHandler handler) {
+				int count = handler.getModificationCount(i);
+				if (this.modifiableStackCounts[i] == count) {
+					continue;
+				}
+				this.modifiableStackCounts[i] = count;
+			}
 			ItemStack stack = this.mainHandler.getStackInSlot(i).copy();
 			if (!stack.isEmpty()) {
 				stack.set(XBDataComponents.MODIFICATION_SLOT_INDEX.get(), i);
+			}
+			this.modifiableStacks.set(i, stack);
+			this.modificationCount++;
+		}
+	}
+	
+	public int getModificationCount() {
+		this.updateModifiableStacks();
+		return this.modificationCount;
+	}
+	
+	public @NotNull List<ItemStack> createModifiableList() {
+		this.updateModifiableStacks();
+		List<ItemStack> stacks = Lists.newArrayList();
+		for (ItemStack stack : this.modifiableStacks) {
+			if (!stack.isEmpty()) {
 				stacks.add(stack);
 			}
 		}
@@ -181,7 +289,7 @@ public class ModifiableHandler implements IItemHandlerModifiable {
 	}
 	
 	public void applyModifications(@NotNull List<ItemStack> stacks) {
-		this.resetWrappedSlots(SlotWrapper::ofDisabled);
+		this.disableWrappedSlots();
 		for (int i = 0; i < stacks.size(); i++) {
 			Integer slot = stacks.get(i).get(XBDataComponents.MODIFICATION_SLOT_INDEX.get());
 			if (slot != null) {
@@ -26,6 +26,8 @@ import net.minecraft.world.level.storage.*;
 import net.neoforged.neoforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  *
  * @author Luis-St
@@ -34,8 +36,8 @@ import org.jetbrains.annotations.NotNull;
 
 public class SmeltingHandler extends CraftingFuelHandler {
 	
-	private final ItemStackHandler inputStorageHandler;
-	private final ItemStackHandler resultStorageHandler;
+	private final DynamicItemStackHandler inputStorageHandler;
+	private final DynamicItemStackHandler resultStorageHandler;
 	
 	public SmeltingHandler(int input, int inputStorage, int resultStorage) {
 		this(input, 1, 1, inputStorage, resultStorage);
@@ -59,6 +61,19 @@ public class SmeltingHandler extends CraftingFuelHandler {
 		return this.resultStorageHandler;
 	}
 	
+	@Override
+	public @NotNull List<DynamicItemStackHandler> getHandlers() {
+		List<DynamicItemStackHandler> handlers = super.getHandlers();
+		handlers.add(this.inputStorageHandler);
+		handlers.add(this.resultStorageHandler);
+		return handlers;
+	}
+	
+	@Override
+	public int getModificationCount() {
+		return super.getModificationCount() + this.inputStorageHandler.getModificationCount() + this.resultStorageHandler.getModificationCount();
+	}
+	
 	@Override
 	public @NotNull CompoundTag serialize(HolderLookup.@NotNull Provider provider) {
 		CompoundTag tag = super.serialize(provider);
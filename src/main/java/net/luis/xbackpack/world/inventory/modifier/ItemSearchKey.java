@@ -0,0 +1,70 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.inventory.modifier;
+
+import net.luis.xbackpack.core.components.XBDataComponents;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public record ItemSearchKey(@NotNull String name, @NotNull String displayName, @NotNull String namespace) {
+	
+	private static final int MAX_CACHE_SIZE = 8192;
+	private static final Map<Key, ItemSearchKey> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHE_SIZE, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.@NotNull Entry<Key, ItemSearchKey> eldest) {
+			return this.size() > MAX_CACHE_SIZE;
+		}
+	});
+	
+	public static @NotNull ItemSearchKey of(@NotNull ItemStack stack) {
+		DataComponentPatch patch = stack.getComponentsPatch();
+		Key key = new Key(stack.getItem(), patch);
+		ItemSearchKey searchKey = CACHE.get(key);
+		if (searchKey != null) {
+			return searchKey;
+		}
+		Key strippedKey = new Key(stack.getItem(), patch.forget(type -> type == XBDataComponents.MODIFICATION_SLOT_INDEX.get()));
+		searchKey = CACHE.get(strippedKey);
+		if (searchKey == null) {
+			String displayName = stack.getDisplayName().getString().toLowerCase();
+			String namespace = Objects.requireNonNull(BuiltInRegistries.ITEM.getKey(stack.getItem())).getNamespace().trim().toLowerCase();
+			searchKey = new ItemSearchKey(displayName.replace("[", "").replace("]", "").trim(), displayName, namespace);
+			CACHE.put(strippedKey, searchKey);
+		}
+		CACHE.put(key, searchKey);
+		return searchKey;
+	}
+	
+	public static void clearCache() {
+		CACHE.clear();
+	}
+	
+	private record Key(@NotNull Item item, @NotNull DataComponentPatch patch) {}
+}
@@ -0,0 +1,55 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.inventory.modifier;
+
+import com.google.common.collect.Maps;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class ItemTagIndex {
+	
+	private static volatile Map<String, TagKey<Item>> tagsByPath;
+	
+	public static @Nullable TagKey<Item> getTag(@NotNull String path) {
+		Map<String, TagKey<Item>> tags = tagsByPath;
+		if (tags == null) {
+			tags = Maps.newHashMap();
+			for (TagKey<Item> tag : BuiltInRegistries.ITEM.getTags().map(named -> named.key()).toList()) {
+				tags.putIfAbsent(tag.location().getPath(), tag);
+			}
+			tagsByPath = tags;
+		}
+		return tags.get(path.replace(" ", "_"));
+	}
+	
+	public static void invalidate() {
+		tagsByPath = null;
+	}
+}
@@ -20,21 +20,19 @@ package net.luis.xbackpack.world.inventory.modifier.filter;
 
 import com.google.common.collect.Lists;
 import net.luis.xbackpack.util.Util;
+import net.luis.xbackpack.world.inventory.modifier.ItemSearchKey;
+import net.luis.xbackpack.world.inventory.modifier.ItemTagIndex;
 import net.luis.xbackpack.world.item.CustomBackpackFilterItem;
 import net.minecraft.core.component.DataComponents;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.tags.*;
 import net.minecraft.world.item.*;
 import net.minecraft.world.item.component.DamageResistant;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.function.BiPredicate;
-import java.util.stream.StreamSupport;
 
 /**
  *
@@ -61,7 +59,7 @@ public enum ItemFilters implements ItemFilter {
 	NAME_SEARCH("name_search", false) {
 		@Override
 		protected boolean canKeepItem(@NotNull ItemStack stack, @NotNull String searchTerm) {
-			String itemName = stack.getDisplayName().getString().replace("[", "").replace("]", "").trim().toLowerCase();
+			String itemName = ItemSearchKey.of(stack).name();
 			if (searchTerm.isEmpty()) {
 				return true;
 			} else if (itemName.equals(searchTerm)) {
@@ -75,7 +73,7 @@ public enum ItemFilters implements ItemFilter {
 	NAMESPACE_SEARCH("namespace_search", false) {
 		@Override
 		protected boolean canKeepItem(@NotNull ItemStack stack, @NotNull String searchTerm) {
-			String namespace = Objects.requireNonNull(BuiltInRegistries.ITEM.getKey(stack.getItem())).getNamespace().trim().toLowerCase();
+			String namespace = ItemSearchKey.of(stack).namespace();
 			if (searchTerm.isEmpty()) {
 				return true;
 			} else if (!searchTerm.startsWith("@")) {
@@ -104,27 +102,14 @@ public enum ItemFilters implements ItemFilter {
 			if (string.isEmpty()) {
 				return true;
 			} else {
-				TagKey<Item> tag = this.getTag(string);
+				TagKey<Item> tag = ItemTagIndex.getTag(string);
 				if (tag == null) {
 					return false;
 				} else {
-					List<Item> tagItems = StreamSupport.stream(BuiltInRegistries.ITEM.getTagOrEmpty(tag).spliterator(), false)
-							.map(net.minecraft.core.Holder::value)
-							.toList();
-					return tagItems.contains(stack.getItem());
+					return stack.is(tag);
 				}
 			}
 		}
-
-		private @Nullable TagKey<Item> getTag(String searchTerm) {
-			List<TagKey<Item>> tags = BuiltInRegistries.ITEM.getTags().map(named -> named.key()).toList();
-			for (TagKey<Item> tag : tags) {
-				if (searchTerm.replace(" ", "_").equals(tag.location().getPath())) {
-					return tag;
-				}
-			}
-			return null;
-		}
 	},
 	COUNT_SEARCH("count_search", false) {
 		@Override
@@ -19,18 +19,20 @@
 package net.luis.xbackpack.world.inventory.modifier.sorter;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import net.luis.xbackpack.XBackpack;
 import net.luis.xbackpack.util.Util;
-import net.minecraft.core.registries.BuiltInRegistries;
+import net.luis.xbackpack.world.inventory.modifier.ItemSearchKey;
+import net.luis.xbackpack.world.inventory.modifier.ItemTagIndex;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.*;
 
 /**
@@ -58,7 +60,7 @@ public enum ItemSorters implements ItemSorter {
 				Iterator<ItemStack> iterator = stacks.iterator();
 				while (iterator.hasNext()) {
 					ItemStack stack = iterator.next();
-					String name = stack.getDisplayName().getString().replace("[", "").replace("]", "").trim().toLowerCase();
+					String name = ItemSearchKey.of(stack).name();
 					if (negate != name.equals(searchTerm)) {
 						equalsList.add(stack);
 						iterator.remove();
@@ -93,7 +95,7 @@ public enum ItemSorters implements ItemSorter {
 					Iterator<ItemStack> iterator = stacks.iterator();
 					while (iterator.hasNext()) {
 						ItemStack stack = iterator.next();
-						String namespace = Objects.requireNonNull(BuiltInRegistries.ITEM.getKey(stack.getItem())).getNamespace();
+						String namespace = ItemSearchKey.of(stack).namespace();
 						if (negate != namespace.equals(string)) {
 							equalsList.add(stack);
 							iterator.remove();
@@ -107,9 +109,9 @@ public enum ItemSorters implements ItemSorter {
 							XBackpack.LOGGER.error("[Filter Failed] The filtered item list contains an item with the namespace '{}' that does not match the search term '{}' in any form", namespace, string);
 						}
 					}
-					equalsList.sort(Comparator.comparing(stack -> Objects.requireNonNull(BuiltInRegistries.ITEM.getKey(stack.getItem())).getNamespace()));
-					startsList.sort(Comparator.comparing(stack -> Objects.requireNonNull(BuiltInRegistries.ITEM.getKey(stack.getItem())).getNamespace()));
-					containsList.sort(Comparator.comparing(stack -> Objects.requireNonNull(BuiltInRegistries.ITEM.getKey(stack.getItem())).getNamespace()));
+					sortBySearchKey(equalsList, ItemSearchKey::namespace);
+					sortBySearchKey(startsList, ItemSearchKey::namespace);
+					sortBySearchKey(containsList, ItemSearchKey::namespace);
 					return Stream.of(equalsList, startsList, containsList).flatMap(List::stream).collect(Collectors.toList());
 				}
 				return stacks;
@@ -122,14 +124,11 @@ public enum ItemSorters implements ItemSorter {
 		@Override
 		public @NotNull List<ItemStack> sort(@NotNull List<ItemStack> stacks, @NotNull String searchTerm, boolean negate) {
 			if (searchTerm.startsWith("#")) {
-				TagKey<Item> tag = this.getTag(searchTerm);
+				TagKey<Item> tag = ItemTagIndex.getTag(searchTerm.substring(1));
 				if (tag != null) {
 					List<ItemStack> returnList = Lists.newArrayList();
 					for (ItemStack stack : stacks) {
-						List<Item> tagItems = StreamSupport.stream(BuiltInRegistries.ITEM.getTagOrEmpty(tag).spliterator(), false)
-								.map(net.minecraft.core.Holder::value)
-								.toList();
-						if (negate != tagItems.contains(stack.getItem())) {
+						if (negate != stack.is(tag)) {
 							returnList.add(stack);
 						} else {
 							XBackpack.LOGGER.error("[Filter Failed] The filtered item list contains an item '{}' which is not subordinated to the tag '{}'", stack.getItem(), tag.location());
@@ -142,17 +141,6 @@ public enum ItemSorters implements ItemSorter {
 			XBackpack.LOGGER.info("An attempt is made to apply a search term sorter to an empty search term");
 			return stacks;
 		}
-
-		@Nullable
-		private TagKey<Item> getTag(String searchTerm) {
-			List<TagKey<Item>> tags = BuiltInRegistries.ITEM.getTags().map(named -> named.key()).toList();
-			for (TagKey<Item> tag : tags) {
-				if (searchTerm.replace(" ", "_").equals(tag.location().getPath())) {
-					return tag;
-				}
-			}
-			return null;
-		}
 	},
 	COUNT_SEARCH("count_search", false) {
 		@Override
@@ -178,7 +166,7 @@ public enum ItemSorters implements ItemSorter {
 	ALPHABETICALLY("alphabetically") {
 		@Override
 		public @NotNull List<ItemStack> sort(@NotNull List<ItemStack> stacks, @NotNull String searchTerm, boolean negate) {
-			stacks.sort(Comparator.comparing(stack -> stack.getDisplayName().getString().toLowerCase()));
+			sortBySearchKey(stacks, ItemSearchKey::displayName);
 			return stacks;
 		}
 		
@@ -216,6 +204,14 @@ public enum ItemSorters implements ItemSorter {
 		this.selectable = selectable;
 	}
 	
+	private static void sortBySearchKey(@NotNull List<ItemStack> stacks, @NotNull Function<ItemSearchKey, String> keyExtractor) {
+		Map<ItemStack, String> keys = Maps.newIdentityHashMap();
+		for (ItemStack stack : stacks) {
+			keys.put(stack, keyExtractor.apply(ItemSearchKey.of(stack)));
+		}
+		stacks.sort(Comparator.comparing(keys::get));
+	}
+	
 	public static @NotNull ItemSorter byId(int id) {
 		return byId(id, null);
 	}
@@ -18,8 +18,11 @@
 
 package net.luis.xbackpack.world.inventory.progress;
 
-import net.luis.xbackpack.network.XBNetworkHandler;
 import net.luis.xbackpack.network.packet.extension.UpdateBrewingStandPacket;
+import net.luis.xbackpack.world.backpack.sync.BackpackSyncScheduler;
+import net.luis.xbackpack.world.backpack.sync.SyncPart;
+import net.luis.xbackpack.world.extension.BackpackExtensions;
+import net.luis.xbackpack.world.inventory.AbstractExtensionContainerMenu;
 import net.luis.xbackpack.world.inventory.handler.CraftingFuelHandler;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -51,14 +54,16 @@ import java.util.Objects;
 public class BrewingProgressHandler implements ProgressHandler {
 	
 	private final Player player;
+	private final BackpackSyncScheduler syncScheduler;
 	private final PotionBrewing potionBrewing;
 	private final CraftingFuelHandler handler;
 	private Item input;
 	private int fuel;
 	private int brewTime;
 	
-	public BrewingProgressHandler(@NotNull Player player, @NotNull CraftingFuelHandler handler) {
+	public BrewingProgressHandler(@NotNull Player player, @NotNull BackpackSyncScheduler syncScheduler, @NotNull CraftingFuelHandler handler) {
 		this.player = player;
+		this.syncScheduler = syncScheduler;
 		this.potionBrewing = player.level().potionBrewing();
 		this.handler = handler;
 	}
@@ -75,11 +80,12 @@ public class BrewingProgressHandler implements ProgressHandler {
 		if (this.brewTime > 0) {
 			--this.brewTime;
 			if (this.brewTime == 0 && this.isBrewable()) {
-				this.brewPotion();
+				this.brewPotion(true);
+				this.broadcastChanges();
 			} else if (!this.isBrewable() || !inputStack.is(this.input)) {
 				this.brewTime = 0;
+				this.broadcastChanges();
 			}
-			this.broadcastChanges();
 		} else if (this.isBrewable() && this.fuel > 0) {
 			--this.fuel;
 			this.brewTime = 400;
@@ -88,6 +94,41 @@ public class BrewingProgressHandler implements ProgressHandler {
 		}
 	}
 	
+	@Override
+	public void catchUp(long ticks) {
+		boolean brewed = false;
+		while (ticks > 0) {
+			if (0 >= this.fuel && this.getFuelItem().is(Items.BLAZE_POWDER)) {
+				this.fuel = 20;
+				this.handler.getFuelHandler().extractItem(0, 1, false);
+			}
+			if (this.brewTime > 0) {
+				if (!this.isBrewable() || !this.getInputItem().is(this.input)) {
+					this.brewTime = 0;
+					continue;
+				}
+				int step = (int) Math.min(ticks, this.brewTime);
+				this.brewTime -= step;
+				ticks -= step;
+				if (this.brewTime == 0) {
+					this.brewPotion(false);
+					brewed = true;
+				}
+			} else if (this.isBrewable() && this.fuel > 0) {
+				--this.fuel;
+				this.brewTime = 400;
+				this.input = this.getInputItem().getItem();
+				ticks--;
+			} else {
+				break;
+			}
+		}
+		if (brewed && this.player instanceof ServerPlayer player) {
+			this.playSound(player, player.level());
+		}
+		this.broadcastChanges();
+	}
+	
 	private boolean isBrewable() {
 		ItemStack inputStack = this.getInputItem();
 		if (!inputStack.isEmpty()) {
@@ -100,14 +141,14 @@ public class BrewingProgressHandler implements ProgressHandler {
 		return false;
 	}
 	
-	private void brewPotion() {
+	private void brewPotion(boolean playSound) {
 		if (!this.onPotionAttemptBrew()) {
 			ItemStack inputStack = this.getInputItem();
 			for (int i = 0; i < 3; i++) {
 				this.getResultHandler().setStackInSlot(i, this.potionBrewing.mix(inputStack, this.getResultHandler().getStackInSlot(i)));
 			}
 			this.onPotionBrewed(this.asList());
-			if (this.player instanceof ServerPlayer player) {
+			if (playSound && this.player instanceof ServerPlayer player) {
 				this.playSound(player, player.level());
 			}
 			ItemStack remainingStack = inputStack.getCraftingRemainder();
@@ -183,7 +224,18 @@ public class BrewingProgressHandler implements ProgressHandler {
 	
 	@Override
 	public void broadcastChanges() {
-		XBNetworkHandler.INSTANCE.sendToPlayer(this.player, new UpdateBrewingStandPacket(this.fuel, this.brewTime));
+		if (this.player instanceof ServerPlayer && this.player.containerMenu instanceof AbstractExtensionContainerMenu menu && menu.getExtension() == BackpackExtensions.BREWING_STAND.get()) {
+			this.syncScheduler.schedule(SyncPart.BREWING, () -> {
+				long brewStart = this.player.level().getGameTime() - (400 - this.brewTime);
+				return new UpdateBrewingStandPacket(this.fuel, brewStart, this.brewTime > 0 ? 400 : 0);
+			});
+		}
+	}
+	
+	public void transferFrom(@NotNull BrewingProgressHandler handler) {
+		this.input = handler.input;
+		this.fuel = handler.fuel;
+		this.brewTime = handler.brewTime;
 	}
 	
 	@Override
@@ -0,0 +1,80 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.inventory.progress;
+
+import com.google.common.collect.Maps;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class CookingRecipeCache {
+	
+	private static final int MAX_CACHE_SIZE = 4096;
+	private static final Map<Key, Optional<AbstractCookingRecipe>> CACHE = Maps.newConcurrentMap();
+	
+	public static @Nullable AbstractCookingRecipe getRecipe(@NotNull ServerLevel level, @NotNull List<RecipeType<? extends AbstractCookingRecipe>> recipeTypes, @NotNull ItemStack stack) {
+		if (stack.isEmpty()) {
+			return null;
+		}
+		Key key = new Key(recipeTypes, stack.getItem(), stack.getComponentsPatch());
+		Optional<AbstractCookingRecipe> recipe = CACHE.get(key);
+		if (recipe == null) {
+			if (CACHE.size() >= MAX_CACHE_SIZE) {
+				CACHE.clear();
+			}
+			recipe = Optional.ofNullable(findRecipe(level, recipeTypes, stack));
+			CACHE.put(key, recipe);
+		}
+		return recipe.orElse(null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static @Nullable AbstractCookingRecipe findRecipe(@NotNull ServerLevel level, @NotNull List<RecipeType<? extends AbstractCookingRecipe>> recipeTypes, @NotNull ItemStack stack) {
+		SingleRecipeInput input = new SingleRecipeInput(stack);
+		AbstractCookingRecipe cookingRecipe = null;
+		for (RecipeType<? extends AbstractCookingRecipe> recipeType : recipeTypes) {
+			Optional<RecipeHolder<AbstractCookingRecipe>> optional = level.recipeAccess().getRecipeFor((RecipeType<AbstractCookingRecipe>) recipeType, input, level);
+			if (optional.isPresent()) {
+				AbstractCookingRecipe recipe = optional.get().value();
+				if (cookingRecipe == null || cookingRecipe.cookingTime() > recipe.cookingTime()) {
+					cookingRecipe = recipe;
+				}
+			}
+		}
+		return cookingRecipe;
+	}
+	
+	public static void invalidate() {
+		CACHE.clear();
+	}
+	
+	private record Key(@NotNull List<RecipeType<? extends AbstractCookingRecipe>> recipeTypes, @NotNull Item item, @NotNull DataComponentPatch patch) {}
+}
@@ -31,6 +31,8 @@ public interface ProgressHandler {
 	
 	void tick();
 	
+	void catchUp(long ticks);
+	
 	void broadcastChanges();
 	
 	@NotNull CompoundTag serialize();
@@ -18,8 +18,11 @@
 
 package net.luis.xbackpack.world.inventory.progress;
 
-import net.luis.xbackpack.network.XBNetworkHandler;
 import net.luis.xbackpack.network.packet.extension.UpdateFurnacePacket;
+import net.luis.xbackpack.world.backpack.sync.BackpackSyncScheduler;
+import net.luis.xbackpack.world.backpack.sync.SyncPart;
+import net.luis.xbackpack.world.extension.BackpackExtensions;
+import net.luis.xbackpack.world.inventory.AbstractExtensionContainerMenu;
 import net.luis.xbackpack.world.inventory.handler.SmeltingHandler;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
@@ -32,7 +35,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  *
@@ -43,6 +45,7 @@ import java.util.Optional;
 public class SmeltingProgressHandler implements ProgressHandler {
 	
 	private final Player player;
+	private final BackpackSyncScheduler syncScheduler;
 	private final SmeltingHandler handler;
 	private final List<RecipeType<? extends AbstractCookingRecipe>> recipeTypes;
 	private int cookingProgress;
@@ -50,33 +53,42 @@ public class SmeltingProgressHandler implements ProgressHandler {
 	private @Nullable AbstractCookingRecipe progressingRecipe;
 	private int fuelTime;
 	private int maxFuel;
+	private State state = State.ACTIVE;
+	private int idleModificationCount;
 	
-	public SmeltingProgressHandler(@NotNull Player player, @NotNull SmeltingHandler handler, @NotNull List<RecipeType<? extends AbstractCookingRecipe>> recipeTypes) {
+	public SmeltingProgressHandler(@NotNull Player player, @NotNull BackpackSyncScheduler syncScheduler, @NotNull SmeltingHandler handler, @NotNull List<RecipeType<? extends AbstractCookingRecipe>> recipeTypes) {
 		this.player = player;
+		this.syncScheduler = syncScheduler;
 		this.handler = handler;
 		this.recipeTypes = recipeTypes;
 	}
 	
 	@Override
 	public void tick() {
-		int oldCookingProgress = this.getCookingProgress();
-		int oldFuelTime = this.getFuelProgress();
+		if (this.state == State.IDLE) {
+			if (this.handler.getModificationCount() == this.idleModificationCount) {
+				return;
+			}
+			this.state = State.ACTIVE;
+		}
+		this.tickActive();
+		if (0 >= this.fuelTime && 0 >= this.cookingProgress && this.progressingRecipe == null) {
+			this.state = State.IDLE;
+			this.idleModificationCount = this.handler.getModificationCount();
+		}
+	}
+	
+	private void tickActive() {
 		this.checkRecipe();
 		this.forceStorages();
 		if (this.fuelTime > 0) {
 			--this.fuelTime;
-		}
-		this.checkFuel();
-		if (this.progressingRecipe == null && !this.getInputItem().isEmpty()) {
-			ItemStack stack = this.getInputItem();
-			if (this.canSmelt(stack)) {
-				this.progressingRecipe = this.getRecipe(stack);
-				if (this.progressingRecipe != null) {
-					this.cookingTime = this.progressingRecipe.cookingTime();
-					this.cookingProgress = 0;
-				}
+			if (this.fuelTime == 0) {
+				this.broadcastChanges();
 			}
 		}
+		this.checkFuel();
+		this.startRecipe();
 		AbstractCookingRecipe progressingRecipe = this.progressingRecipe;
 		if (progressingRecipe != null) {
 			if (this.getInputItem().isEmpty()) {
@@ -87,22 +99,96 @@ public class SmeltingProgressHandler implements ProgressHandler {
 			} else if (this.cookingProgress > 0) {
 				this.cookingProgress--;
 			}
-			ItemStackHandler inputHandler = this.handler.getInputHandler();
-			if (this.cookingProgress >= this.cookingTime && !inputHandler.extractItem(0, 1, true).isEmpty()) {
-				ItemStack stack = this.handler.getResultHandler().insertItem(0, progressingRecipe.assemble(new SingleRecipeInput(inputHandler.extractItem(0, 1, false)), this.player.level().registryAccess()), false);
-				if (!stack.isEmpty()) {
-					this.player.drop(stack, true, true);
+			if (this.cookingProgress >= this.cookingTime) {
+				this.completeRecipe(progressingRecipe);
+			}
+		}
+	}
+	
+	@Override
+	public void catchUp(long ticks) {
+		while (ticks > 0) {
+			this.checkRecipe();
+			this.forceStorages();
+			this.checkFuel();
+			this.startRecipe();
+			AbstractCookingRecipe progressingRecipe = this.progressingRecipe;
+			if (progressingRecipe == null || this.getInputItem().isEmpty() || 0 >= this.fuelTime) {
+				this.fuelTime = (int) Math.max(this.fuelTime - ticks, 0);
+				if (progressingRecipe != null && this.getInputItem().isEmpty()) {
+					this.resetRecipe();
+				} else if (progressingRecipe != null) {
+					this.cookingProgress = (int) Math.max(this.cookingProgress - ticks, 0);
+				}
+				break;
+			}
+			int burnTime = (int) Math.min(ticks, this.fuelTime);
+			int count = Math.min((this.cookingProgress + burnTime) / Math.max(this.cookingTime, 1), Math.min(this.getInputItem().getCount(), this.getResultSpace(progressingRecipe)));
+			if (count > 0) {
+				int step = Math.max(count * this.cookingTime - this.cookingProgress, 0);
+				this.fuelTime -= step;
+				ticks -= step;
+				this.completeRecipes(progressingRecipe, count);
+			} else {
+				int step = Math.min(burnTime, Math.max(this.cookingTime - this.cookingProgress, 1));
+				this.fuelTime -= step;
+				this.cookingProgress += step;
+				ticks -= step;
+				if (this.cookingProgress >= this.cookingTime) {
+					this.completeRecipe(progressingRecipe);
 				}
-				this.giveExperience();
-				this.resetRecipe();
-				this.broadcastChanges();
 			}
 		}
-		if (oldCookingProgress != this.getCookingProgress() || oldFuelTime != this.getFuelProgress()) {
+		this.forceStorages();
+		this.state = State.ACTIVE;
+		this.broadcastChanges();
+	}
+	
+	private void startRecipe() {
+		if (this.progressingRecipe == null && !this.getInputItem().isEmpty()) {
+			ItemStack stack = this.getInputItem();
+			if (this.canSmelt(stack)) {
+				this.progressingRecipe = this.getRecipe(stack);
+				if (this.progressingRecipe != null) {
+					this.cookingTime = this.progressingRecipe.cookingTime();
+					this.cookingProgress = 0;
+					this.broadcastChanges();
+				}
+			}
+		}
+	}
+	
+	private void completeRecipe(@NotNull AbstractCookingRecipe recipe) {
+		this.completeRecipes(recipe, 1);
+	}
+	
+	private void completeRecipes(@NotNull AbstractCookingRecipe recipe, int count) {
+		ItemStack input = this.handler.getInputHandler().extractItem(0, count, false);
+		if (!input.isEmpty()) {
+			ItemStack result = recipe.assemble(new SingleRecipeInput(input), this.player.level().registryAccess());
+			ItemStack stack = this.handler.getResultHandler().insertItem(0, result.copyWithCount(result.getCount() * input.getCount()), false);
+			while (!stack.isEmpty()) {
+				this.player.drop(stack.split(stack.getMaxStackSize()), true, true);
+			}
+			this.giveExperience(input.getCount());
+			this.resetRecipe();
 			this.broadcastChanges();
 		}
 	}
 	
+	private int getResultSpace(@NotNull AbstractCookingRecipe recipe) {
+		ItemStack result = recipe.assemble(new SingleRecipeInput(this.getInputItem()), this.player.level().registryAccess());
+		ItemStack resultItem = this.getResultItem();
+		if (result.isEmpty()) {
+			return this.getInputItem().getCount();
+		} else if (resultItem.isEmpty()) {
+			return result.getMaxStackSize() / result.getCount();
+		} else if (!ItemStack.isSameItemSameComponents(resultItem, result)) {
+			return 0;
+		}
+		return (resultItem.getMaxStackSize() - resultItem.getCount()) / result.getCount();
+	}
+	
 	private void checkRecipe() {
 		if (this.cookingProgress > 0 && this.cookingTime > 0 && this.progressingRecipe == null) {
 			this.progressingRecipe = this.getRecipe(this.getInputItem());
@@ -194,19 +280,24 @@ public class SmeltingProgressHandler implements ProgressHandler {
 			}
 			this.maxFuel = fuelTime;
 			this.fuelTime = fuelTime;
+			this.broadcastChanges();
 		}
 	}
 	
-	private void giveExperience() {
+	private void giveExperience(int count) {
 		RandomSource rng = this.player.getRandom();
-		float experience;
-		if (this.progressingRecipe != null) {
-			experience = this.progressingRecipe.experience();
-		} else {
-			experience = rng.nextFloat() + rng.nextFloat();
+		int experiencePoints = 0;
+		for (int i = 0; i < count; i++) {
+			float experience;
+			if (this.progressingRecipe != null) {
+				experience = this.progressingRecipe.experience();
+			} else {
+				experience = rng.nextFloat() + rng.nextFloat();
+			}
+			int usedRecipes = rng.nextInt(3);
+			experiencePoints += (int) (experience * usedRecipes);
 		}
-		int usedRecipes = rng.nextInt(3);
-		this.player.giveExperiencePoints((int) (experience * usedRecipes));
+		this.player.giveExperiencePoints(experiencePoints);
 	}
 	
 	private void resetRecipe() {
@@ -215,24 +306,11 @@ public class SmeltingProgressHandler implements ProgressHandler {
 		this.progressingRecipe = null;
 	}
 	
-	@SuppressWarnings("unchecked")
 	private @Nullable AbstractCookingRecipe getRecipe(@NotNull ItemStack stack) {
-		AbstractCookingRecipe cookingRecipe = null;
-		for (RecipeType<? extends AbstractCookingRecipe> recipeType : this.recipeTypes) {
-			Optional<RecipeHolder<AbstractCookingRecipe>> optional = Optional.empty();
-			if (this.player instanceof ServerPlayer player) {
-				optional = player.level().recipeAccess().getRecipeFor((RecipeType<AbstractCookingRecipe>) recipeType, new SingleRecipeInput(stack), player.level());
-			}
-			if (optional.isPresent()) {
-				AbstractCookingRecipe recipe = optional.get().value();
-				if (cookingRecipe == null) {
-					cookingRecipe = recipe;
-				} else if (cookingRecipe.cookingTime() > recipe.cookingTime()) {
-					cookingRecipe = recipe;
-				}
-			}
+		if (this.player instanceof ServerPlayer player) {
+			return CookingRecipeCache.getRecipe(player.level(), this.recipeTypes, stack);
 		}
-		return cookingRecipe;
+		return null;
 	}
 	
 	private boolean canSmelt(@NotNull ItemStack stack) {
@@ -276,20 +354,20 @@ public class SmeltingProgressHandler implements ProgressHandler {
 		return this.handler.getResultStorageHandler();
 	}
 	
-	public int getCookingProgress() {
-		int cookingProgress = this.cookingProgress;
-		int cookingTime = this.cookingTime;
-		return cookingTime != 0 && cookingProgress != 0 ? cookingProgress * 24 / cookingTime : 0;
-	}
-	
-	public int getFuelProgress() {
-		int maxFuel = this.maxFuel == 0 ? 200 : this.maxFuel;
-		return this.fuelTime * 14 / maxFuel;
-	}
-	
 	@Override
 	public void broadcastChanges() {
-		XBNetworkHandler.INSTANCE.sendToPlayer(this.player, new UpdateFurnacePacket(this.getCookingProgress(), this.getFuelProgress()));
+		if (this.player instanceof ServerPlayer && this.player.containerMenu instanceof AbstractExtensionContainerMenu menu && menu.getExtension() == BackpackExtensions.FURNACE.get()) {
+			this.syncScheduler.schedule(SyncPart.FURNACE, () -> new UpdateFurnacePacket(this.player.level().getGameTime(), this.cookingProgress, this.cookingTime, this.fuelTime, this.maxFuel));
+		}
+	}
+	
+	public void transferFrom(@NotNull SmeltingProgressHandler handler) {
+		this.cookingProgress = handler.cookingProgress;
+		this.cookingTime = handler.cookingTime;
+		this.progressingRecipe = handler.progressingRecipe;
+		this.fuelTime = handler.fuelTime;
+		this.maxFuel = handler.maxFuel;
+		this.state = State.ACTIVE;
 	}
 	
 	@Override
@@ -308,5 +386,12 @@ public class SmeltingProgressHandler implements ProgressHandler {
 		this.cookingTime = tag.getIntOr("cooking_time", 0);
 		this.fuelTime = tag.getIntOr("fuel_time", 0);
 		this.maxFuel = tag.getIntOr("max_fuel", 0);
+		this.state = State.ACTIVE;
+	}
+	
+	private enum State {
+		
+		IDLE,
+		ACTIVE
 	}
 }
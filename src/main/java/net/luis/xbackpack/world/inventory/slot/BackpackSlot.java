@@ -18,6 +18,7 @@
 
 package net.luis.xbackpack.world.inventory.slot;
 
+import net.luis.xbackpack.world.inventory.handler.ModifiableHandler;
 import net.neoforged.neoforge.items.IItemHandlerModifiable;
 import net.neoforged.neoforge.items.SlotItemHandler;
 import org.jetbrains.annotations.NotNull;
@@ -38,4 +39,12 @@ public class BackpackSlot extends SlotItemHandler implements MoveableSlot {
 	public int getY(int scrollOffset) {
 		return this.y - scrollOffset * 18;
 	}
+	
+	@Override
+	public void setChanged() {
+		super.setChanged();
+		if (this.getItemHandler() instanceof ModifiableHandler handler) {
+			handler.markChanged(this.getSlotIndex());
+		}
+	}
 }
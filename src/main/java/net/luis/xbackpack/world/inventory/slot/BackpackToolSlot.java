@@ -20,6 +20,7 @@ package net.luis.xbackpack.world.inventory.slot;
 
 import net.luis.xbackpack.BackpackConstants;
 import net.luis.xbackpack.XBackpack;
+import net.luis.xbackpack.world.item.DynamicItemStackHandler;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.items.IItemHandler;
@@ -59,4 +60,12 @@ public class BackpackToolSlot extends SlotItemHandler {
 	public @NotNull ResourceLocation getNoItemIcon() {
 		return EMPTY_TOOL_SLOT;
 	}
+	
+	@Override
+	public void setChanged() {
+		super.setChanged();
+		if (this.getItemHandler() instanceof DynamicItemStackHandler handler) {
+			handler.markChanged(this.getSlotIndex());
+		}
+	}
 }
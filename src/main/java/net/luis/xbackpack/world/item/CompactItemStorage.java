@@ -0,0 +1,130 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.item;
+
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.luis.xbackpack.XBackpack;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.*;
+import net.minecraft.resources.RegistryOps;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class CompactItemStorage {
+	
+	public static @NotNull CompoundTag serialize(HolderLookup.@NotNull Provider provider, @NotNull List<DynamicItemStackHandler> handlers) {
+		RegistryOps<Tag> ops = provider.createSerializationContext(NbtOps.INSTANCE);
+		Object2IntMap<Item> palette = new Object2IntOpenHashMap<>();
+		ListTag paletteTag = new ListTag();
+		ListTag handlersTag = new ListTag();
+		for (DynamicItemStackHandler handler : handlers) {
+			IntList stacks = new IntArrayList();
+			ListTag componentsTag = new ListTag();
+			for (int slot = 0; slot < handler.getSlots(); slot++) {
+				ItemStack stack = handler.getStackInSlot(slot);
+				if (stack.isEmpty()) {
+					continue;
+				}
+				DataComponentPatch patch = stack.getComponentsPatch();
+				if (!patch.isEmpty()) {
+					CompoundTag componentTag = new CompoundTag();
+					componentTag.putInt("slot", slot);
+					componentTag.put("components", DataComponentPatch.CODEC.encodeStart(ops, patch).getOrThrow(error -> new RuntimeException("Failed to encode components of " + stack + ": " + error)));
+					componentsTag.add(componentTag);
+				}
+				int index = palette.computeIntIfAbsent(stack.getItem(), item -> {
+					paletteTag.add(StringTag.valueOf(Objects.requireNonNull(BuiltInRegistries.ITEM.getKey(item)).toString()));
+					return paletteTag.size() - 1;
+				});
+				stacks.add(slot);
+				stacks.add(index);
+				stacks.add(stack.getCount());
+			}
+			CompoundTag handlerTag = new CompoundTag();
+			handlerTag.putInt("size", handler.getSlots());
+			handlerTag.putIntArray("stacks", stacks.toIntArray());
+			if (!componentsTag.isEmpty()) {
+				handlerTag.put("components", componentsTag);
+			}
+			handlersTag.add(handlerTag);
+		}
+		CompoundTag tag = new CompoundTag();
+		tag.put("palette", paletteTag);
+		tag.put("handlers", handlersTag);
+		return tag;
+	}
+	
+	public static void deserialize(HolderLookup.@NotNull Provider provider, @NotNull CompoundTag tag, @NotNull List<DynamicItemStackHandler> handlers) {
+		RegistryOps<Tag> ops = provider.createSerializationContext(NbtOps.INSTANCE);
+		ListTag paletteTag = tag.getListOrEmpty("palette");
+		List<Item> palette = Lists.newArrayList();
+		for (int i = 0; i < paletteTag.size(); i++) {
+			palette.add(BuiltInRegistries.ITEM.getValue(ResourceLocation.tryParse(paletteTag.getStringOr(i, ""))));
+		}
+		ListTag handlersTag = tag.getListOrEmpty("handlers");
+		for (int i = 0; i < handlers.size() && i < handlersTag.size(); i++) {
+			DynamicItemStackHandler handler = handlers.get(i);
+			CompoundTag handlerTag = handlersTag.getCompoundOrEmpty(i);
+			int size = handlerTag.getIntOr("size", handler.getSlots());
+			if (size > handler.getSlots()) {
+				XBackpack.LOGGER.error("DynamicItemStackHandler does currently not support shrinking of the inventory size");
+				throw new RuntimeException("Tried to deserialize to an ItemStackHandler with more slots than it was created with");
+			}
+			Int2ObjectMap<DataComponentPatch> components = new Int2ObjectOpenHashMap<>();
+			for (Tag componentTag : handlerTag.getListOrEmpty("components")) {
+				if (componentTag instanceof CompoundTag compoundTag && compoundTag.get("components") != null) {
+					DataComponentPatch.CODEC.parse(ops, compoundTag.get("components")).resultOrPartial(error -> XBackpack.LOGGER.error("Failed to decode item components: {}", error)).ifPresent(patch -> {
+						components.put(compoundTag.getIntOr("slot", -1), patch);
+					});
+				}
+			}
+			int[] stacks = handlerTag.getIntArray("stacks").orElseGet(() -> new int[0]);
+			Int2ObjectMap<ItemStack> loadedStacks = new Int2ObjectOpenHashMap<>();
+			for (int j = 0; j + 2 < stacks.length; j += 3) {
+				int slot = stacks[j];
+				int index = stacks[j + 1];
+				if (0 > index || index >= palette.size()) {
+					XBackpack.LOGGER.warn("Invalid palette index {} for slot {}, the item stack will be skipped", index, slot);
+					continue;
+				}
+				ItemStack stack = new ItemStack(BuiltInRegistries.ITEM.wrapAsHolder(palette.get(index)), stacks[j + 2], components.getOrDefault(slot, DataComponentPatch.EMPTY));
+				if (!stack.isEmpty()) {
+					loadedStacks.put(slot, stack);
+				}
+			}
+			handler.load(loadedStacks);
+		}
+	}
+}
@@ -18,6 +18,8 @@
 
 package net.luis.xbackpack.world.item;
 
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.luis.xbackpack.XBackpack;
 import net.minecraft.core.NonNullList;
 import net.minecraft.world.item.ItemStack;
@@ -25,6 +27,10 @@ import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.neoforged.neoforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.List;
 
 /**
  *
@@ -35,10 +41,124 @@ import org.jetbrains.annotations.NotNull;
 public class DynamicItemStackHandler extends ItemStackHandler {
 	
 	private final int initialSize;
+	private final BitSet changedSlots = new BitSet();
+	private final int[] slotModificationCounts;
+	private int modificationCount;
+	private @Nullable ItemStackIndex index;
+	private final List<Runnable> listeners = Lists.newArrayList();
 	
 	public DynamicItemStackHandler(int size) {
 		super(size);
 		this.initialSize = size;
+		this.slotModificationCounts = new int[size];
+	}
+	
+	public int getModificationCount() {
+		return this.modificationCount;
+	}
+	
+	public int getModificationCount(int slot) {
+		if (0 > slot || slot >= this.slotModificationCounts.length) {
+			return 0;
+		}
+		return this.slotModificationCounts[slot];
+	}
+	
+	public @NotNull ItemStackIndex getIndex() {
+		if (this.index == null) {
+			this.index = new ItemStackIndex(this.initialSize);
+			for (int i = 0; i < this.stacks.size(); i++) {
+				this.index.update(i, this.stacks.get(i));
+			}
+		}
+		return this.index;
+	}
+	
+	public boolean hasChangedSlots() {
+		return !this.changedSlots.isEmpty();
+	}
+	
+	public @NotNull BitSet getChangedSlots() {
+		return (BitSet) this.changedSlots.clone();
+	}
+	
+	public void markChanged(int slot) {
+		this.changedSlots.set(slot);
+		this.modificationCount++;
+		if (this.slotModificationCounts.length > slot && slot >= 0) {
+			this.slotModificationCounts[slot]++;
+		}
+		if (this.index != null && this.stacks.size() > slot && slot >= 0) {
+			this.index.update(slot, this.stacks.get(slot));
+		}
+		this.notifyListeners();
+	}
+	
+	public void addListener(@NotNull Runnable listener) {
+		this.listeners.add(listener);
+	}
+	
+	public void removeListener(@NotNull Runnable listener) {
+		this.listeners.remove(listener);
+	}
+	
+	private void notifyListeners() {
+		for (int i = 0; i < this.listeners.size(); i++) {
+			this.listeners.get(i).run();
+		}
+	}
+	
+	public void clearChangedSlots() {
+		this.changedSlots.clear();
+	}
+	
+	@Override
+	protected void onContentsChanged(int slot) {
+		super.onContentsChanged(slot);
+		this.markChanged(slot);
+	}
+	
+	@Override
+	protected void onLoad() {
+		super.onLoad();
+		this.changedSlots.set(0, this.stacks.size());
+		this.modificationCount++;
+		for (int i = 0; i < this.slotModificationCounts.length; i++) {
+			this.slotModificationCounts[i]++;
+		}
+		this.index = null;
+		this.notifyListeners();
+	}
+	
+	public void load(@NotNull Int2ObjectMap<ItemStack> stacks) {
+		this.stacks = NonNullList.withSize(this.initialSize, ItemStack.EMPTY);
+		for (Int2ObjectMap.Entry<ItemStack> entry : stacks.int2ObjectEntrySet()) {
+			if (0 > entry.getIntKey() || entry.getIntKey() >= this.initialSize) {
+				XBackpack.LOGGER.warn("Slot {} not in valid range - [0,{}), the item stack will be skipped", entry.getIntKey(), this.initialSize);
+				continue;
+			}
+			this.stacks.set(entry.getIntKey(), entry.getValue());
+		}
+		this.onLoad();
+	}
+	
+	public void transferFrom(@NotNull DynamicItemStackHandler handler) {
+		if (handler.initialSize > this.initialSize) {
+			XBackpack.LOGGER.error("DynamicItemStackHandler does currently not support shrinking of the inventory size");
+			throw new RuntimeException("Tried to transfer " + handler.initialSize + " slots to an ItemStackHandler with " + this.initialSize + " slots");
+		}
+		NonNullList<ItemStack> stacks = handler.stacks;
+		handler.stacks = NonNullList.withSize(handler.initialSize, ItemStack.EMPTY);
+		handler.onLoad();
+		if (stacks.size() == this.initialSize) {
+			this.stacks = stacks;
+		} else {
+			this.stacks = NonNullList.withSize(this.initialSize, ItemStack.EMPTY);
+			for (int i = 0; i < stacks.size(); i++) {
+				this.stacks.set(i, stacks.get(i));
+			}
+		}
+		this.onLoad();
 	}
 	
 	@Override
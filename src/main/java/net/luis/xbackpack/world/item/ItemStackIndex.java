@@ -0,0 +1,75 @@
+/*
+ * XBackpack
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.xbackpack.world.item;
+
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.ItemStackLinkedSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ *
+ * @author Luis-St
+ *
+ */
+
+public class ItemStackIndex {
+	
+	private final Map<ItemStack, IntSortedSet> partialSlots = new Object2ObjectOpenCustomHashMap<>(ItemStackLinkedSet.TYPE_AND_TAG);
+	private final ItemStack[] slotKeys;
+	private final BitSet freeSlots = new BitSet();
+	
+	public ItemStackIndex(int size) {
+		this.slotKeys = new ItemStack[size];
+		this.freeSlots.set(0, size);
+	}
+	
+	public void update(int slot, @NotNull ItemStack stack) {
+		if (0 > slot || slot >= this.slotKeys.length) {
+			return;
+		}
+		ItemStack key = this.slotKeys[slot];
+		if (key != null) {
+			IntSortedSet slots = this.partialSlots.get(key);
+			if (slots != null && slots.remove(slot) && slots.isEmpty()) {
+				this.partialSlots.remove(key);
+			}
+			this.slotKeys[slot] = null;
+		}
+		this.freeSlots.set(slot, stack.isEmpty());
+		if (!stack.isEmpty() && stack.getMaxStackSize() > stack.getCount()) {
+			key = stack.copyWithCount(1);
+			this.partialSlots.computeIfAbsent(key, k -> new IntRBTreeSet()).add(slot);
+			this.slotKeys[slot] = key;
+		}
+	}
+	
+	public @NotNull IntSortedSet getPartialSlots(@NotNull ItemStack stack) {
+		IntSortedSet slots = this.partialSlots.get(stack);
+		return slots != null ? IntSortedSets.unmodifiable(slots) : IntSortedSets.EMPTY_SET;
+	}
+	
+	public int getNextFreeSlot(int startSlot) {
+		return this.freeSlots.nextSetBit(Math.max(startSlot, 0));
+	}
+}